@@ -1,6 +1,7 @@
 plugins {
     java
     id("com.gradleup.shadow") version "8.3.5"
+    id("me.champeau.jmh") version "0.7.2"
 }
 
 group = "dev.loratech"
@@ -35,6 +36,105 @@ dependencies {
     implementation("com.mysql:mysql-connector-j:8.3.0")
     implementation("org.mariadb.jdbc:mariadb-java-client:3.3.3")
     implementation("org.bstats:bstats-bukkit:3.0.2")
+
+    jmh("io.papermc.paper:paper-api:1.21.4-R0.1-SNAPSHOT")
+}
+
+jmh {
+    (findProperty("jmhIncludes") as String?)?.let { includes.set(listOf(it)) }
+    warmupIterations.set(3)
+    iterations.set(5)
+    fork.set(1)
+}
+
+val confusablesVersion = "15.1.0"
+val confusablesSource = layout.projectDirectory.file("src/main/unicode/confusables.txt")
+val confusablesChecksum = layout.projectDirectory.file("src/main/unicode/confusables.txt.sha256")
+
+fun sha256(file: File): String =
+    java.security.MessageDigest.getInstance("SHA-256").digest(file.readBytes()).joinToString("") { "%02x".format(it) }
+
+val updateConfusables by tasks.registering {
+    group = "unicode"
+    description = "Downloads confusables.txt $confusablesVersion into src/main/unicode and pins its SHA-256."
+
+    doLast {
+        val source = confusablesSource.asFile
+        source.parentFile.mkdirs()
+        uri("https://www.unicode.org/Public/security/$confusablesVersion/confusables.txt").toURL().openStream().use { input ->
+            source.outputStream().use { input.copyTo(it) }
+        }
+        val digest = sha256(source)
+        confusablesChecksum.asFile.writeText(digest + "\n")
+        logger.lifecycle("Vendored confusables.txt $confusablesVersion (sha256 $digest), commit both files")
+    }
+}
+
+val generateConfusables by tasks.registering {
+    val output = layout.buildDirectory.dir("generated/resources/confusables")
+    inputs.files(confusablesSource, confusablesChecksum)
+    outputs.dir(output)
+
+    doLast {
+        val source = confusablesSource.asFile
+        val checksum = confusablesChecksum.asFile
+        if (!source.exists() || !checksum.exists()) {
+            throw GradleException("Missing src/main/unicode/${if (source.exists()) checksum.name else source.name}; run ./gradlew updateConfusables and commit both files")
+        }
+        val expected = checksum.readText().trim()
+        val actual = sha256(source)
+        if (!expected.equals(actual, ignoreCase = true)) {
+            throw GradleException("confusables.txt checksum mismatch: expected $expected, got $actual")
+        }
+
+        val folds = java.util.TreeMap<Char, Char>()
+        source.forEachLine { line ->
+            val fields = line.substringBefore('#').split(';').map { it.trim() }
+            if (fields.size < 2 || fields[0].isEmpty()) return@forEachLine
+            val from = fields[0].toInt(16)
+            val to = fields[1].split(' ').filter { it.isNotEmpty() }.map { it.toInt(16) }
+            if (from < 0x80 || from > 0xFFFF || to.size != 1) return@forEachLine
+            val folded = Character.toLowerCase(to[0])
+            if (folded in 'a'.code..'z'.code || folded in '0'.code..'9'.code) {
+                folds[from.toChar()] = folded.toChar()
+            }
+        }
+
+        for (code in 0x80..0xFFFF) {
+            val c = code.toChar()
+            if (folds.containsKey(c) || !Character.isLetterOrDigit(c)) continue
+            val decomposed = java.text.Normalizer.normalize(c.toString(), java.text.Normalizer.Form.NFKD)
+            if (decomposed.isEmpty() || decomposed[0] == c) continue
+            if (decomposed.drop(1).any { Character.getType(it) != Character.NON_SPACING_MARK.toInt() }) continue
+            val base = Character.toLowerCase(decomposed[0])
+            if (base != Character.toLowerCase(c)) {
+                folds[c] = base
+            }
+        }
+
+        val required = mapOf('\u0430' to 'a', '\u0435' to 'e', '\u043E' to 'o', '\u0440' to 'p', '\u03BF' to 'o', '\u03BD' to 'v')
+        required.forEach { (from, to) ->
+            if (folds[from] != to) {
+                throw GradleException("confusables.txt does not fold U+%04X to '$to'; the file is incomplete".format(from.code))
+            }
+        }
+
+        val target = output.get().file("confusables.bin").asFile
+        target.parentFile.mkdirs()
+        java.io.DataOutputStream(target.outputStream().buffered()).use { stream ->
+            stream.writeInt(folds.size)
+            folds.forEach { (from, to) ->
+                stream.writeChar(from.code)
+                stream.writeChar(to.code)
+            }
+        }
+    }
+}
+
+sourceSets {
+    main {
+        resources.srcDir(generateConfusables)
+    }
 }
 
 tasks {
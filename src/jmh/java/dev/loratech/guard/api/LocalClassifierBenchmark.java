@@ -0,0 +1,78 @@
+package dev.loratech.guard.api;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class LocalClassifierBenchmark {
+
+    private static final int SAMPLES = 8192;
+    private static final String[] CLEAN_WORDS = {
+        "anyone", "want", "to", "trade", "diamonds", "for", "iron", "at", "spawn", "gg", "nice", "build", "lol", "where", "is", "the", "shop"
+    };
+    private static final String[] FLAGGED_WORDS = {
+        "idiot", "trash", "noob", "kys", "loser", "scam", "free", "rank", "click", "link"
+    };
+
+    @Param({"16", "20"})
+    public int bits;
+
+    private final String[] messages = new String[SAMPLES];
+    private final boolean[] labels = new boolean[SAMPLES];
+    private ForkJoinPool pool;
+    private LocalClassifier classifier;
+    private int next;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        for (int i = 0; i < SAMPLES; i++) {
+            boolean flagged = random.nextInt(4) == 0;
+            StringBuilder message = new StringBuilder();
+            for (int w = 0, words = 4 + random.nextInt(10); w < words; w++) {
+                String[] vocabulary = flagged && random.nextBoolean() ? FLAGGED_WORDS : CLEAN_WORDS;
+                if (w > 0) message.append(' ');
+                message.append(vocabulary[random.nextInt(vocabulary.length)]);
+            }
+            messages[i] = message.toString();
+            labels[i] = flagged;
+        }
+
+        pool = new ForkJoinPool(Math.max(1, Runtime.getRuntime().availableProcessors() / 2));
+        ClassifierTrainer.Counts counts = new ClassifierTrainer.Counts(bits);
+        pool.invoke(new ClassifierTrainer.CountTask(counts, messages, labels, 0, SAMPLES));
+        classifier = counts.toClassifier(bits, System.currentTimeMillis());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public double predict() {
+        return classifier.predict(messages[next++ & (SAMPLES - 1)]);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SAMPLES)
+    public LocalClassifier trainChunk() {
+        ClassifierTrainer.Counts counts = new ClassifierTrainer.Counts(bits);
+        pool.invoke(new ClassifierTrainer.CountTask(counts, messages, labels, 0, SAMPLES));
+        return counts.toClassifier(bits, 0);
+    }
+}
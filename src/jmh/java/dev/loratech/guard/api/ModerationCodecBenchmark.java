@@ -0,0 +1,107 @@
+package dev.loratech.guard.api;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ModerationCodecBenchmark {
+
+    private static final String[] CATEGORIES = {
+        "hate", "violence", "sexual", "self_harm", "harassment", "profanity", "spam", "scam",
+        "toxicity", "bullying", "cheating", "doxxing", "advertising", "threats", "discrimination",
+        "illegal", "inappropriate_username", "griefing", "irl_trading"
+    };
+
+    @Param({"1", "64"})
+    public int results;
+
+    private final Gson gson = new Gson();
+    private ModerationRequest request;
+    private String responseJson;
+
+    @Setup
+    public void setup() {
+        List<String> inputs = new ArrayList<>(results);
+        for (int i = 0; i < results; i++) {
+            inputs.add("player message number " + i + " with some ordinary chat text in it");
+        }
+        request = results == 1
+            ? new ModerationRequest(inputs.get(0), "lora-free", 0.5)
+            : new ModerationRequest(inputs, "lora-free", 0.5);
+
+        Random random = new Random(42);
+        JsonArray resultArray = new JsonArray();
+        for (int i = 0; i < results; i++) {
+            JsonObject flags = new JsonObject();
+            JsonObject scores = new JsonObject();
+            for (String category : CATEGORIES) {
+                double score = random.nextDouble();
+                flags.addProperty(category, score >= 0.9);
+                scores.addProperty(category, score);
+            }
+            JsonObject result = new JsonObject();
+            result.addProperty("flagged", flags.entrySet().stream().anyMatch(entry -> entry.getValue().getAsBoolean()));
+            result.add("categories", flags);
+            result.add("category_scores", scores);
+            resultArray.add(result);
+        }
+        JsonObject response = new JsonObject();
+        response.addProperty("id", "modr-benchmark");
+        response.addProperty("model", "lora-free");
+        response.add("results", resultArray);
+        responseJson = response.toString();
+    }
+
+    @Benchmark
+    public String encodeCodec() throws IOException {
+        return ModerationCodec.encode(request);
+    }
+
+    @Benchmark
+    public String encodeGson() {
+        return gson.toJson(request);
+    }
+
+    @Benchmark
+    public ModerationResponse decodeCodec() throws IOException {
+        return ModerationCodec.decode(new StringReader(responseJson));
+    }
+
+    @Benchmark
+    public GsonResponse decodeGson() {
+        return gson.fromJson(responseJson, GsonResponse.class);
+    }
+
+    public static class GsonResponse {
+        private String id;
+        private String model;
+        private List<GsonResult> results;
+        private String warning;
+    }
+
+    public static class GsonResult {
+        private boolean flagged;
+        private Map<String, Boolean> categories;
+        private Map<String, Double> category_scores;
+        private String error;
+    }
+}
@@ -0,0 +1,130 @@
+package dev.loratech.guard.database;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class BatchWriterBenchmark {
+
+    private static final int ROWS = 100;
+
+    // "mysql" reads LORAGUARD_BENCH_MYSQL_URL, LORAGUARD_BENCH_MYSQL_USER and LORAGUARD_BENCH_MYSQL_PASSWORD
+    @Param({"sqlite"})
+    public String database;
+
+    private Path directory;
+    private HikariDataSource dataSource;
+    private final List<BatchWriter.PendingWrite> writes = new ArrayList<>(ROWS);
+
+    @Setup
+    public void setup() throws IOException, SQLException {
+        HikariConfig config = new HikariConfig();
+        String autoIncrement;
+        if (database.equalsIgnoreCase("mysql")) {
+            String url = System.getenv("LORAGUARD_BENCH_MYSQL_URL");
+            if (url == null || url.isEmpty()) {
+                throw new IllegalStateException("LORAGUARD_BENCH_MYSQL_URL is not set");
+            }
+            config.setJdbcUrl(url);
+            config.setUsername(System.getenv("LORAGUARD_BENCH_MYSQL_USER"));
+            config.setPassword(System.getenv("LORAGUARD_BENCH_MYSQL_PASSWORD"));
+            config.setDriverClassName("com.mysql.cj.jdbc.Driver");
+            autoIncrement = "AUTO_INCREMENT";
+        } else {
+            directory = Files.createTempDirectory("loraguard-bench");
+            config.setJdbcUrl("jdbc:sqlite:" + directory.resolve("database.db").toAbsolutePath());
+            config.setDriverClassName("org.sqlite.JDBC");
+            config.setConnectionInitSql("PRAGMA journal_mode=WAL; PRAGMA synchronous=NORMAL;");
+            autoIncrement = "AUTOINCREMENT";
+        }
+        config.setMaximumPoolSize(10);
+        config.setPoolName("LoraGuard-Bench");
+        config.addDataSourceProperty("cachePrepStmts", "true");
+        config.addDataSourceProperty("prepStmtCacheSize", "250");
+        config.addDataSourceProperty("prepStmtCacheSqlLimit", "2048");
+        dataSource = new HikariDataSource(config);
+
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("CREATE TABLE IF NOT EXISTS violations (" +
+                "id INTEGER PRIMARY KEY " + autoIncrement + ", " +
+                "uuid VARCHAR(36) NOT NULL, " +
+                "player_name VARCHAR(16) NOT NULL, " +
+                "message TEXT NOT NULL, " +
+                "category VARCHAR(32) NOT NULL, " +
+                "score DOUBLE NOT NULL, " +
+                "action VARCHAR(32) NOT NULL, " +
+                "timestamp TIMESTAMP DEFAULT CURRENT_TIMESTAMP)");
+        }
+
+        for (int i = 0; i < ROWS; i++) {
+            writes.add(new DatabaseManager.ViolationWrite(UUID.randomUUID(), "Player" + i,
+                "flagged chat message number " + i, "toxicity", 0.93, "warn"));
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void truncate() throws SQLException {
+        try (Connection conn = dataSource.getConnection(); Statement stmt = conn.createStatement()) {
+            stmt.execute("DELETE FROM violations");
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        dataSource.close();
+        if (directory != null) {
+            try (Stream<Path> files = Files.walk(directory)) {
+                for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void rowPerConnection() throws SQLException {
+        for (BatchWriter.PendingWrite write : writes) {
+            try (Connection conn = dataSource.getConnection();
+                 PreparedStatement stmt = conn.prepareStatement(write.sql())) {
+                write.bind(stmt);
+                stmt.executeUpdate();
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void batchedTransaction() throws SQLException {
+        try (Connection conn = dataSource.getConnection()) {
+            BatchWriter.writeBatch(conn, writes);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.util.TextUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class BlacklistMatcherBenchmark {
+
+    private static final String MESSAGE = "hey does anyone want to trade some diamonds for iron at spawn later tonight, dm me";
+
+    @Param({"10", "1000", "50000"})
+    public int words;
+
+    private List<String> blacklist;
+    private BlacklistMatcher matcher;
+
+    @Setup
+    public void setup() {
+        Random random = new Random(42);
+        blacklist = new ArrayList<>(words);
+        while (blacklist.size() < words) {
+            StringBuilder word = new StringBuilder();
+            for (int i = 0, length = 5 + random.nextInt(6); i < length; i++) {
+                word.append((char) ('a' + random.nextInt(26)));
+            }
+            if (!MESSAGE.contains(word)) {
+                blacklist.add(word.toString());
+            }
+        }
+        matcher = BlacklistMatcher.compile(blacklist);
+    }
+
+    @Benchmark
+    public String automaton() {
+        return matcher.findFirst(TextUtil.normalizedView(MESSAGE));
+    }
+
+    @Benchmark
+    public String patternPerWord() {
+        String normalizedMessage = TextUtil.normalizeText(MESSAGE);
+        for (String word : blacklist) {
+            String normalizedWord = TextUtil.normalizeText(word);
+            if (Pattern.compile("(?i)\\b" + Pattern.quote(normalizedWord) + "\\b").matcher(normalizedMessage).find()) {
+                return word;
+            }
+        }
+        return null;
+    }
+}
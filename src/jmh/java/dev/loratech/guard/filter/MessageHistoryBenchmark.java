@@ -0,0 +1,86 @@
+package dev.loratech.guard.filter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class MessageHistoryBenchmark {
+
+    private static final long STEP_MS = 100;
+    private static final String[] MESSAGES = {
+        "hello everyone", "  Hello Everyone ", "anyone selling elytra?", "gg", "GG", "brb"
+    };
+
+    @Param({"8", "64"})
+    public int window;
+
+    private MessageHistory ring;
+    private List<MessageRecord> copyOnWrite;
+    private long timeframeMs;
+    private long clock;
+    private int next;
+
+    @Setup
+    public void setup() {
+        timeframeMs = window * STEP_MS;
+        ring = new MessageHistory(window);
+        copyOnWrite = new CopyOnWriteArrayList<>();
+        for (int i = 0; i < window; i++) {
+            String message = nextMessage();
+            clock += STEP_MS;
+            ring.add(message, MessageHistory.hash(message), clock);
+            copyOnWrite.add(new MessageRecord(message, clock));
+        }
+    }
+
+    private String nextMessage() {
+        return MESSAGES[next++ % MESSAGES.length];
+    }
+
+    @Benchmark
+    public int ringBuffer() {
+        String message = nextMessage();
+        long now = clock += STEP_MS;
+        MessageHistory history = ring;
+        synchronized (history) {
+            long hash = MessageHistory.hash(message);
+            int same = history.countMatchingSince(hash, now - timeframeMs);
+            int recent = history.countSince(now - timeframeMs);
+            history.add(message, hash, now);
+            return same + recent;
+        }
+    }
+
+    @Benchmark
+    public long copyOnWriteList() {
+        String message = nextMessage();
+        long now = clock += STEP_MS;
+        List<MessageRecord> history = copyOnWrite;
+        synchronized (history) {
+            history.removeIf(record -> record.timestamp() < now - timeframeMs);
+            String normalizedMessage = message.toLowerCase().trim();
+            long same = history.stream()
+                .filter(record -> record.message().toLowerCase().trim().equals(normalizedMessage))
+                .count();
+
+            history.removeIf(record -> record.timestamp() < now - timeframeMs);
+            long recent = history.size();
+            history.add(new MessageRecord(message, now));
+            return same + recent;
+        }
+    }
+
+    private record MessageRecord(String message, long timestamp) {}
+}
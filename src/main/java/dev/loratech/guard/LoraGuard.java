@@ -4,6 +4,7 @@ import dev.loratech.guard.api.LoraApiClient;
 import dev.loratech.guard.appeal.AppealManager;
 import dev.loratech.guard.cache.MessageCache;
 import dev.loratech.guard.cache.PunishmentCache;
+import dev.loratech.guard.cache.ViolationLedger;
 import dev.loratech.guard.command.AppealCommand;
 import dev.loratech.guard.command.ClearChatCommand;
 import dev.loratech.guard.command.LoraCommand;
@@ -16,6 +17,7 @@ import dev.loratech.guard.filter.FilterManager;
 import dev.loratech.guard.gui.GUIManager;
 import dev.loratech.guard.hook.DiscordHook;
 import dev.loratech.guard.hook.PlaceholderHook;
+import dev.loratech.guard.http.HttpTransport;
 import dev.loratech.guard.language.LanguageManager;
 import dev.loratech.guard.listener.ChatListener;
 import dev.loratech.guard.listener.CommandSpyListener;
@@ -24,12 +26,11 @@ import dev.loratech.guard.listener.InteractionListener;
 import dev.loratech.guard.listener.StaffChatListener;
 import dev.loratech.guard.manager.CooldownManager;
 import dev.loratech.guard.manager.SlowmodeManager;
+import dev.loratech.guard.manager.StaffNotifier;
 import dev.loratech.guard.metrics.MetricsManager;
 import dev.loratech.guard.telemetry.TelemetryManager;
 import dev.loratech.guard.punishment.PunishmentManager;
 import dev.loratech.guard.task.MuteExpiryTask;
-import dev.loratech.guard.task.ViolationDecayTask;
-import dev.loratech.guard.task.WarningDecayTask;
 import org.bukkit.plugin.java.JavaPlugin;
 
 public class LoraGuard extends JavaPlugin {
@@ -39,9 +40,11 @@ public class LoraGuard extends JavaPlugin {
     private ConfigManager configManager;
     private LanguageManager languageManager;
     private DatabaseManager databaseManager;
+    private HttpTransport httpTransport;
     private LoraApiClient apiClient;
     private MessageCache messageCache;
     private PunishmentCache punishmentCache;
+    private ViolationLedger violationLedger;
     private PunishmentManager punishmentManager;
     private FilterManager filterManager;
     private DiscordHook discordHook;
@@ -50,6 +53,7 @@ public class LoraGuard extends JavaPlugin {
     private AppealManager appealManager;
     private ExportManager exportManager;
     private SlowmodeManager slowmodeManager;
+    private StaffNotifier staffNotifier;
     private MetricsManager metricsManager;
     private TelemetryManager telemetryManager;
     private StaffChatCommand staffChatCommand;
@@ -63,9 +67,12 @@ public class LoraGuard extends JavaPlugin {
         configManager = new ConfigManager(this);
         languageManager = new LanguageManager(this);
         databaseManager = new DatabaseManager(this);
+        httpTransport = new HttpTransport(this);
         apiClient = new LoraApiClient(this);
         messageCache = new MessageCache(this);
         punishmentCache = new PunishmentCache(this);
+        violationLedger = new ViolationLedger(this);
+        violationLedger.start();
         punishmentManager = new PunishmentManager(this);
         filterManager = new FilterManager(this);
         discordHook = new DiscordHook(this);
@@ -74,6 +81,8 @@ public class LoraGuard extends JavaPlugin {
         appealManager = new AppealManager(this);
         exportManager = new ExportManager(this);
         slowmodeManager = new SlowmodeManager(this);
+        staffNotifier = new StaffNotifier(this);
+        staffNotifier.start();
         metricsManager = new MetricsManager(this);
         metricsManager.start();
         
@@ -93,6 +102,7 @@ public class LoraGuard extends JavaPlugin {
         getServer().getPluginManager().registerEvents(new InteractionListener(this), this);
         getServer().getPluginManager().registerEvents(new CommandSpyListener(this), this);
         getServer().getPluginManager().registerEvents(new StaffChatListener(this), this);
+        getServer().getPluginManager().registerEvents(staffNotifier, this);
         
         LoraCommand loraCommand = new LoraCommand(this);
         getCommand("loraguard").setExecutor(loraCommand);
@@ -114,9 +124,7 @@ public class LoraGuard extends JavaPlugin {
         getCommand("appeal").setExecutor(appealCommand);
         getCommand("appeal").setTabCompleter(appealCommand);
 
-        new ViolationDecayTask(this).start();
         new MuteExpiryTask(this).start();
-        new WarningDecayTask(this).start();
         getLogger().info("Background tasks started!");
 
         getLogger().info("LoraGuard v" + getDescription().getVersion() + " enabled!");
@@ -131,6 +139,21 @@ public class LoraGuard extends JavaPlugin {
         if (apiClient != null) {
             apiClient.shutdown();
         }
+        if (punishmentManager != null) {
+            punishmentManager.shutdown();
+        }
+        if (staffNotifier != null) {
+            staffNotifier.stop();
+        }
+        if (discordHook != null) {
+            discordHook.shutdown();
+        }
+        if (httpTransport != null) {
+            httpTransport.shutdown();
+        }
+        if (violationLedger != null) {
+            violationLedger.shutdown();
+        }
         if (databaseManager != null) {
             databaseManager.close();
         }
@@ -153,6 +176,10 @@ public class LoraGuard extends JavaPlugin {
         return databaseManager;
     }
 
+    public HttpTransport getHttpTransport() {
+        return httpTransport;
+    }
+
     public LoraApiClient getApiClient() {
         return apiClient;
     }
@@ -165,6 +192,10 @@ public class LoraGuard extends JavaPlugin {
         return punishmentCache;
     }
 
+    public ViolationLedger getViolationLedger() {
+        return violationLedger;
+    }
+
     public PunishmentManager getPunishmentManager() {
         return punishmentManager;
     }
@@ -197,6 +228,10 @@ public class LoraGuard extends JavaPlugin {
         return slowmodeManager;
     }
 
+    public StaffNotifier getStaffNotifier() {
+        return staffNotifier;
+    }
+
     public StaffChatCommand getStaffChatCommand() {
         return staffChatCommand;
     }
@@ -218,6 +253,10 @@ public class LoraGuard extends JavaPlugin {
         languageManager.reload();
         messageCache.clear();
         filterManager.clearAllHistory();
+        filterManager.reload();
+        apiClient.reload();
+        databaseManager.reload();
+        violationLedger.reload();
         slowmodeManager.reload();
         getLogger().info("LoraGuard reloaded!");
     }
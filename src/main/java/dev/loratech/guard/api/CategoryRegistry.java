@@ -0,0 +1,58 @@
+package dev.loratech.guard.api;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public final class CategoryRegistry {
+
+    public static final int MAX_CATEGORIES = 64;
+
+    private static final String[] BUILT_IN = {
+        "hate", "violence", "sexual", "self_harm", "harassment", "profanity", "spam", "scam",
+        "toxicity", "bullying", "cheating", "doxxing", "advertising", "threats", "discrimination",
+        "illegal", "inappropriate_username", "griefing", "irl_trading"
+    };
+
+    private static final Map<String, Integer> ids = new ConcurrentHashMap<>();
+    private static volatile String[] names = new String[0];
+
+    static {
+        for (String name : BUILT_IN) {
+            intern(name);
+        }
+    }
+
+    private CategoryRegistry() {
+    }
+
+    public static int idOf(String name) {
+        Integer id = ids.get(name);
+        return id != null ? id : -1;
+    }
+
+    public static int intern(String name) {
+        Integer id = ids.get(name);
+        if (id != null) return id;
+
+        synchronized (CategoryRegistry.class) {
+            id = ids.get(name);
+            if (id != null) return id;
+            if (names.length >= MAX_CATEGORIES) return -1;
+
+            String[] grown = Arrays.copyOf(names, names.length + 1);
+            grown[names.length] = name;
+            names = grown;
+            ids.put(name, names.length - 1);
+            return names.length - 1;
+        }
+    }
+
+    public static String nameOf(int id) {
+        return names[id];
+    }
+
+    public static int size() {
+        return names.length;
+    }
+}
@@ -0,0 +1,175 @@
+package dev.loratech.guard.api;
+
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.util.TextUtil;
+
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongConsumer;
+
+public class ClassifierTrainer {
+
+    public static final int MIN_SAMPLES_PER_CLASS = 100;
+
+    private static final int CHUNK_SIZE = 8192;
+    private static final int LEAF_SIZE = 512;
+    private static final long PROGRESS_INTERVAL = 50000;
+    private static final double SMOOTHING = 1.0;
+
+    private final LoraGuard plugin;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public ClassifierTrainer(LoraGuard plugin) {
+        this.plugin = plugin;
+    }
+
+    public boolean isRunning() {
+        return running.get();
+    }
+
+    public Result train(LongConsumer progress) throws IOException {
+        if (!running.compareAndSet(false, true)) {
+            throw new IllegalStateException("Training already in progress");
+        }
+
+        long start = System.currentTimeMillis();
+        int bits = plugin.getConfigManager().getLocalClassifierFeatureBits();
+        int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        ForkJoinPool pool = new ForkJoinPool(parallelism);
+
+        try {
+            Counts counts = new Counts(bits);
+            String[] messages = new String[CHUNK_SIZE];
+            boolean[] labels = new boolean[CHUNK_SIZE];
+            int[] filled = new int[1];
+            long[] seen = new long[1];
+
+            long rows = plugin.getDatabaseManager().streamTrainingSamples((message, flagged) -> {
+                messages[filled[0]] = message;
+                labels[filled[0]] = flagged;
+                if (++filled[0] == CHUNK_SIZE) {
+                    pool.invoke(new CountTask(counts, messages, labels, 0, CHUNK_SIZE));
+                    filled[0] = 0;
+                }
+                if (++seen[0] % PROGRESS_INTERVAL == 0) {
+                    progress.accept(seen[0]);
+                }
+            });
+            if (rows < 0) {
+                throw new IOException("Failed to read training samples from the database");
+            }
+            if (filled[0] > 0) {
+                pool.invoke(new CountTask(counts, messages, labels, 0, filled[0]));
+            }
+
+            int flagged = counts.flaggedDocs.intValue();
+            int clean = counts.cleanDocs.intValue();
+            if (flagged < MIN_SAMPLES_PER_CLASS || clean < MIN_SAMPLES_PER_CLASS) {
+                return new Result(null, flagged, clean, System.currentTimeMillis() - start);
+            }
+
+            LocalClassifier classifier = counts.toClassifier(bits, start);
+            classifier.write(plugin.getApiClient().getLocalTier().getModelFile());
+            plugin.getApiClient().getLocalTier().setClassifier(classifier);
+            return new Result(classifier, flagged, clean, System.currentTimeMillis() - start);
+        } finally {
+            pool.shutdown();
+            running.set(false);
+        }
+    }
+
+    static class Counts {
+        private final AtomicIntegerArray flaggedCounts;
+        private final AtomicIntegerArray cleanCounts;
+        private final LongAdder flaggedTokens = new LongAdder();
+        private final LongAdder cleanTokens = new LongAdder();
+        private final LongAdder flaggedDocs = new LongAdder();
+        private final LongAdder cleanDocs = new LongAdder();
+
+        Counts(int bits) {
+            this.flaggedCounts = new AtomicIntegerArray(1 << bits);
+            this.cleanCounts = new AtomicIntegerArray(1 << bits);
+        }
+
+        LocalClassifier toClassifier(int bits, long trainedAt) {
+            int dimensions = 1 << bits;
+            double flaggedTotal = flaggedTokens.sum() + SMOOTHING * dimensions;
+            double cleanTotal = cleanTokens.sum() + SMOOTHING * dimensions;
+
+            float[] weights = new float[dimensions];
+            for (int i = 0; i < dimensions; i++) {
+                int inFlagged = flaggedCounts.get(i);
+                int inClean = cleanCounts.get(i);
+                if (inFlagged == 0 && inClean == 0) continue;
+                weights[i] = (float) (Math.log((inFlagged + SMOOTHING) / flaggedTotal)
+                    - Math.log((inClean + SMOOTHING) / cleanTotal));
+            }
+
+            long flagged = flaggedDocs.sum();
+            long clean = cleanDocs.sum();
+            float bias = (float) Math.log((double) flagged / clean);
+            return new LocalClassifier(bits, bias, weights, trainedAt, (int) Math.min(Integer.MAX_VALUE, flagged + clean));
+        }
+    }
+
+    static class CountTask extends RecursiveAction {
+        private final Counts counts;
+        private final String[] messages;
+        private final boolean[] labels;
+        private final int from;
+        private final int to;
+
+        CountTask(Counts counts, String[] messages, boolean[] labels, int from, int to) {
+            this.counts = counts;
+            this.messages = messages;
+            this.labels = labels;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > LEAF_SIZE) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CountTask(counts, messages, labels, from, middle),
+                    new CountTask(counts, messages, labels, middle, to));
+                return;
+            }
+
+            int mask = counts.flaggedCounts.length() - 1;
+            long flaggedTokens = 0;
+            long cleanTokens = 0;
+            int flaggedDocs = 0;
+            for (int i = from; i < to; i++) {
+                CharBuffer normalized = TextUtil.normalizedView(messages[i]);
+                int[] features = LocalClassifier.buffer(normalized.length());
+                int count = LocalClassifier.features(normalized, mask, features);
+                AtomicIntegerArray target = labels[i] ? counts.flaggedCounts : counts.cleanCounts;
+                for (int j = 0; j < count; j++) {
+                    target.incrementAndGet(features[j]);
+                }
+                if (labels[i]) {
+                    flaggedTokens += count;
+                    flaggedDocs++;
+                } else {
+                    cleanTokens += count;
+                }
+            }
+            counts.flaggedTokens.add(flaggedTokens);
+            counts.cleanTokens.add(cleanTokens);
+            counts.flaggedDocs.add(flaggedDocs);
+            counts.cleanDocs.add(to - from - flaggedDocs);
+        }
+    }
+
+    public record Result(LocalClassifier classifier, int flagged, int clean, long elapsedMs) {
+        public boolean isTrained() {
+            return classifier != null;
+        }
+    }
+}
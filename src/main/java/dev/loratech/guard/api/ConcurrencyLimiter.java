@@ -0,0 +1,75 @@
+package dev.loratech.guard.api;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrencyLimiter {
+
+    private static final double BACKOFF_RATIO = 0.9;
+    private static final long BASELINE_WINDOW_NANOS = TimeUnit.SECONDS.toNanos(30);
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double latencyTolerance;
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final Object lock = new Object();
+
+    private volatile double limit;
+    private long baselineRtt = Long.MAX_VALUE;
+    private long baselineSetAt;
+    private long lastDecreaseAt;
+
+    public ConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, double latencyTolerance) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTolerance = Math.max(1.0, latencyTolerance);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= (int) limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release(long rttNanos, boolean success) {
+        int active = inFlight.getAndDecrement();
+        long now = System.nanoTime();
+
+        synchronized (lock) {
+            if (success && (rttNanos < baselineRtt || now - baselineSetAt > BASELINE_WINDOW_NANOS)) {
+                baselineRtt = rttNanos;
+                baselineSetAt = now;
+            }
+
+            boolean congested = !success || rttNanos > baselineRtt * latencyTolerance;
+            if (congested) {
+                long cooldown = baselineRtt == Long.MAX_VALUE ? rttNanos : baselineRtt;
+                if (now - lastDecreaseAt >= cooldown) {
+                    limit = Math.max(minLimit, limit * BACKOFF_RATIO);
+                    lastDecreaseAt = now;
+                }
+            } else if (active * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+        }
+    }
+
+    public void cancel() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getLimit() {
+        return (int) limit;
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,176 @@
+package dev.loratech.guard.api;
+
+import dev.loratech.guard.util.TextUtil;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.CharBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+
+public class LocalClassifier {
+
+    public static final String FILE_NAME = "classifier.bin";
+
+    private static final int MAGIC = 0x4C47434D;
+    private static final int FORMAT_VERSION = 1;
+    private static final int MIN_BITS = 10;
+    private static final int MAX_BITS = 24;
+
+    private static final int SEED_WORD = 0x01000193;
+    private static final int SEED_BIGRAM = 0x2545F491;
+    private static final int SEED_TRIGRAM = 0x5BD1E995;
+
+    private static final ThreadLocal<int[]> FEATURES = ThreadLocal.withInitial(() -> new int[256]);
+
+    private final int bits;
+    private final float bias;
+    private final float[] weights;
+    private final long trainedAt;
+    private final int samples;
+
+    public LocalClassifier(int bits, float bias, float[] weights, long trainedAt, int samples) {
+        if (bits < MIN_BITS || bits > MAX_BITS || weights.length != 1 << bits) {
+            throw new IllegalArgumentException("Invalid classifier dimensions: " + bits);
+        }
+        this.bits = bits;
+        this.bias = bias;
+        this.weights = weights;
+        this.trainedAt = trainedAt;
+        this.samples = samples;
+    }
+
+    public double predict(CharSequence message) {
+        CharBuffer normalized = TextUtil.normalizedView(message);
+        int[] features = buffer(normalized.length());
+        int count = features(normalized, (1 << bits) - 1, features);
+
+        double logit = bias;
+        for (int i = 0; i < count; i++) {
+            logit += weights[features[i]];
+        }
+        return 1.0 / (1.0 + Math.exp(-logit));
+    }
+
+    public static int[] buffer(int length) {
+        int required = length * 3 + 3;
+        int[] features = FEATURES.get();
+        if (features.length < required) {
+            features = new int[Math.max(required, features.length * 2)];
+            FEATURES.set(features);
+        }
+        return features;
+    }
+
+    public static int features(CharSequence normalized, int mask, int[] out) {
+        int count = 0;
+        int length = normalized.length();
+        int word = SEED_WORD;
+        int previousWord = 0;
+        boolean inWord = false;
+        char c1 = ' ';
+        char c2 = ' ';
+
+        for (int i = 0; i <= length; i++) {
+            char c = i < length ? normalized.charAt(i) : ' ';
+
+            int trigram = ((c2 * 31 + c1) * 31 + c) * SEED_TRIGRAM;
+            out[count++] = finish(trigram) & mask;
+            c2 = c1;
+            c1 = c;
+
+            if (c != ' ') {
+                word = (word ^ c) * SEED_WORD;
+                inWord = true;
+            } else if (inWord) {
+                int unigram = finish(word);
+                out[count++] = unigram & mask;
+                if (previousWord != 0) {
+                    out[count++] = finish((previousWord * 31 + unigram) * SEED_BIGRAM) & mask;
+                }
+                previousWord = unigram | 1;
+                word = SEED_WORD;
+                inWord = false;
+            }
+        }
+        return count;
+    }
+
+    private static int finish(int hash) {
+        hash ^= hash >>> 16;
+        hash *= 0x85EBCA6B;
+        hash ^= hash >>> 13;
+        hash *= 0xC2B2AE35;
+        return hash ^ (hash >>> 16);
+    }
+
+    public static LocalClassifier read(File file) throws IOException {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file)))) {
+            if (in.readInt() != MAGIC) {
+                throw new IOException("Not a classifier model: " + file.getName());
+            }
+            int version = in.readInt();
+            if (version != FORMAT_VERSION) {
+                throw new IOException("Unsupported classifier format version " + version);
+            }
+            int bits = in.readInt();
+            if (bits < MIN_BITS || bits > MAX_BITS) {
+                throw new IOException("Invalid classifier dimensions: " + bits);
+            }
+            long trainedAt = in.readLong();
+            int samples = in.readInt();
+            float bias = in.readFloat();
+            int nonZero = in.readInt();
+
+            float[] weights = new float[1 << bits];
+            int mask = weights.length - 1;
+            for (int i = 0; i < nonZero; i++) {
+                weights[in.readInt() & mask] = in.readFloat();
+            }
+            return new LocalClassifier(bits, bias, weights, trainedAt, samples);
+        }
+    }
+
+    public void write(File file) throws IOException {
+        File temp = new File(file.getParentFile(), file.getName() + ".tmp");
+        int nonZero = 0;
+        for (float weight : weights) {
+            if (weight != 0f) nonZero++;
+        }
+
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(temp)))) {
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+            out.writeInt(bits);
+            out.writeLong(trainedAt);
+            out.writeInt(samples);
+            out.writeFloat(bias);
+            out.writeInt(nonZero);
+            for (int i = 0; i < weights.length; i++) {
+                if (weights[i] != 0f) {
+                    out.writeInt(i);
+                    out.writeFloat(weights[i]);
+                }
+            }
+        }
+        Files.move(temp.toPath(), file.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public int getBits() {
+        return bits;
+    }
+
+    public long getTrainedAt() {
+        return trainedAt;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+}
@@ -0,0 +1,131 @@
+package dev.loratech.guard.api;
+
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.telemetry.ClassifierStatsCollector;
+import org.bukkit.Bukkit;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.logging.Level;
+
+public class LocalTier {
+
+    private final LoraGuard plugin;
+    private final ClassifierTrainer trainer;
+    private volatile LocalClassifier classifier;
+    private volatile boolean enabled;
+    private volatile boolean shadow;
+    private volatile double cleanBelow;
+    private volatile boolean collectSamples;
+    private volatile double sampleRate;
+
+    public LocalTier(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.trainer = new ClassifierTrainer(plugin);
+        reload();
+    }
+
+    public void reload() {
+        enabled = plugin.getConfigManager().isLocalClassifierEnabled();
+        shadow = plugin.getConfigManager().isLocalClassifierShadow();
+        cleanBelow = plugin.getConfigManager().getLocalClassifierCleanBelow();
+        collectSamples = plugin.getConfigManager().isLocalClassifierCollectSamples();
+        sampleRate = plugin.getConfigManager().getLocalClassifierSampleRate();
+
+        classifier = enabled ? loadModel() : null;
+
+        if (collectSamples) {
+            int maxSamples = plugin.getConfigManager().getLocalClassifierMaxSamples();
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () ->
+                plugin.getDatabaseManager().pruneClassifierSamples(maxSamples));
+        }
+    }
+
+    private LocalClassifier loadModel() {
+        File file = getModelFile();
+        if (!file.exists()) {
+            plugin.getLogger().info("Local classifier enabled but no model found; run /lg model train to build one");
+            return null;
+        }
+        try {
+            LocalClassifier loaded = LocalClassifier.read(file);
+            plugin.getLogger().info("Loaded local classifier (" + loaded.getSamples() + " samples, "
+                + (1 << loaded.getBits()) + " features)");
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            plugin.getLogger().log(Level.WARNING, "Failed to load local classifier model", e);
+            return null;
+        }
+    }
+
+    public boolean reloadModel() {
+        LocalClassifier loaded = loadModel();
+        classifier = loaded;
+        return loaded != null;
+    }
+
+    public ClassifierTrainer getTrainer() {
+        return trainer;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isShadow() {
+        return shadow;
+    }
+
+    public File getModelFile() {
+        return new File(plugin.getDataFolder(), LocalClassifier.FILE_NAME);
+    }
+
+    public void setClassifier(LocalClassifier classifier) {
+        this.classifier = classifier;
+    }
+
+    public boolean isModelLoaded() {
+        return classifier != null;
+    }
+
+    public LocalClassifier getClassifier() {
+        return classifier;
+    }
+
+    public double score(String message) {
+        LocalClassifier current = classifier;
+        if (!enabled || current == null) return Double.NaN;
+
+        long start = System.nanoTime();
+        double probability = current.predict(message);
+        stats().recordLocal(System.nanoTime() - start);
+        return probability;
+    }
+
+    public boolean passes(double score) {
+        if (shadow || !isConfidentlyClean(score)) return false;
+        stats().recordLocalPass();
+        return true;
+    }
+
+    public boolean isConfidentlyClean(double score) {
+        return !Double.isNaN(score) && score < cleanBelow;
+    }
+
+    public void observe(String message, double score, ModerationResponse.Result result) {
+        if (result == null || result.hasError()) return;
+
+        if (!Double.isNaN(score)) {
+            stats().recordComparison(isConfidentlyClean(score), result.isFlagged());
+        }
+
+        if (collectSamples && ThreadLocalRandom.current().nextDouble() < sampleRate) {
+            plugin.getDatabaseManager().saveClassifierSample(message, result.isFlagged());
+        }
+    }
+
+    private ClassifierStatsCollector stats() {
+        return plugin.getTelemetryManager().getClassifierStatsCollector();
+    }
+}
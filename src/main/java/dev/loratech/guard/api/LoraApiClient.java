@@ -1,37 +1,71 @@
 package dev.loratech.guard.api;
 
-import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.cache.MessageKey;
+import dev.loratech.guard.http.HttpTransport;
+import dev.loratech.guard.util.CircuitBreaker;
 import okhttp3.*;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public class LoraApiClient {
 
     private final LoraGuard plugin;
-    private final OkHttpClient httpClient;
-    private final Gson gson;
-    
-    private int failureCount = 0;
-    private long lastFailureTime = 0;
-    private final Object lock = new Object();
+    private final ModerationBatcher batcher;
+    private final LocalTier localTier;
+    private final RequestHedger hedger;
+    private volatile ConcurrencyLimiter limiter;
+    private volatile CircuitBreaker breaker;
+    private final Map<MessageKey, CompletableFuture<ModerationResponse>> inFlight = new ConcurrentHashMap<>();
 
     public LoraApiClient(LoraGuard plugin) {
         this.plugin = plugin;
-        this.gson = new GsonBuilder().create();
-        this.httpClient = new OkHttpClient.Builder()
-            .connectTimeout(plugin.getConfigManager().getApiTimeout(), TimeUnit.MILLISECONDS)
-            .readTimeout(plugin.getConfigManager().getApiTimeout(), TimeUnit.MILLISECONDS)
-            .writeTimeout(plugin.getConfigManager().getApiTimeout(), TimeUnit.MILLISECONDS)
-            .build();
+        this.batcher = new ModerationBatcher(plugin, this);
+        this.localTier = new LocalTier(plugin);
+        this.hedger = new RequestHedger(plugin);
+        this.limiter = createLimiter();
+        this.breaker = createBreaker();
+    }
+
+    public void reload() {
+        localTier.reload();
+        limiter = createLimiter();
+        breaker = createBreaker();
+    }
+
+    private CircuitBreaker createBreaker() {
+        if (!plugin.getConfigManager().isCircuitBreakerEnabled()) return null;
+        return new CircuitBreaker(new CircuitBreaker.Settings(
+            plugin.getConfigManager().getCircuitBreakerFailureThreshold(),
+            plugin.getConfigManager().getCircuitBreakerFailureRate(),
+            plugin.getConfigManager().getCircuitBreakerWindowSeconds() * 1000L,
+            plugin.getConfigManager().getCircuitBreakerLatencyThresholdMs(),
+            plugin.getConfigManager().getCircuitBreakerResetSeconds() * 1000L,
+            plugin.getConfigManager().getCircuitBreakerHalfOpenProbes()
+        ));
+    }
+
+    private ConcurrencyLimiter createLimiter() {
+        if (!plugin.getConfigManager().isApiConcurrencyLimitEnabled()) return null;
+        return new ConcurrencyLimiter(
+            plugin.getConfigManager().getApiConcurrencyInitialLimit(),
+            plugin.getConfigManager().getApiConcurrencyMinLimit(),
+            plugin.getConfigManager().getApiConcurrencyMaxLimit(),
+            plugin.getConfigManager().getApiConcurrencyLatencyTolerance()
+        );
     }
 
     public CompletableFuture<ModerationResponse> moderate(String message) {
         boolean debug = plugin.getConfigManager().isDebug();
-        long requestStartTime = System.currentTimeMillis();
         
         if (debug) {
             plugin.getLogger().info("[DEBUG-API] ========== NEW MODERATION REQUEST ==========");
@@ -39,33 +73,178 @@ public class LoraApiClient {
             plugin.getLogger().info("[DEBUG-API] Message Length: " + message.length() + " chars");
             plugin.getLogger().info("[DEBUG-API] Entering moderate() method...");
         }
-        
-        if (isCircuitOpen()) {
+
+        double localScore = localTier.score(message);
+        if (localTier.passes(localScore)) {
+            if (debug) {
+                plugin.getLogger().info("[DEBUG-API] Local classifier passed message (score: " + localScore + ")");
+            }
+            return CompletableFuture.completedFuture(ModerationResponse.local());
+        }
+
+        MessageKey key = MessageKey.of(message);
+        CompletableFuture<ModerationResponse> leader = new CompletableFuture<>();
+        CompletableFuture<ModerationResponse> existing = inFlight.putIfAbsent(key, leader);
+        if (existing != null) {
+            plugin.getTelemetryManager().getApiStatsCollector().recordCoalesced();
+            if (debug) {
+                plugin.getLogger().info("[DEBUG-API] Identical request already in flight - attaching to it");
+            }
+            return existing;
+        }
+
+        ConcurrencyLimiter permits = limiter;
+        if (permits != null && !permits.tryAcquire()) {
+            inFlight.remove(key, leader);
+            plugin.getTelemetryManager().getApiStatsCollector().recordShed();
+            if (debug) {
+                plugin.getLogger().warning("[DEBUG-API] Concurrency limit reached (" + permits.getLimit() + ") - shedding request");
+            }
+            leader.complete(shedResponse(localScore));
+            return leader;
+        }
+
+        CircuitBreaker circuit = breaker;
+        if (circuit != null && !circuit.allowRequest()) {
+            if (permits != null) {
+                permits.cancel();
+            }
+            inFlight.remove(key, leader);
             if (debug) {
-                plugin.getLogger().warning("[DEBUG-API] Circuit breaker is OPEN - skipping API call");
-                plugin.getLogger().warning("[DEBUG-API] Failure count: " + failureCount + ", Last failure: " + (System.currentTimeMillis() - lastFailureTime) + "ms ago");
+                plugin.getLogger().warning("[DEBUG-API] Circuit breaker is " + circuit.getState() + " - skipping API call");
+            }
+            leader.complete(null);
+            return leader;
+        }
+
+        long dispatchedAt = System.nanoTime();
+        dispatch(message).whenComplete((response, error) -> {
+            long elapsed = System.nanoTime() - dispatchedAt;
+            if (isLocalRejection(error)) {
+                if (permits != null) {
+                    permits.cancel();
+                }
+                if (circuit != null) {
+                    circuit.onIgnored();
+                }
+                inFlight.remove(key, leader);
+                leader.complete(shedResponse(localScore));
+                return;
             }
-            return CompletableFuture.completedFuture(null);
+
+            boolean success = error == null && response != null;
+            if (permits != null) {
+                permits.release(elapsed, success);
+            }
+            if (circuit != null) {
+                long elapsedMs = TimeUnit.NANOSECONDS.toMillis(elapsed);
+                if (success) {
+                    circuit.onSuccess(elapsedMs);
+                } else {
+                    circuit.onFailure(elapsedMs);
+                }
+            }
+            plugin.getTelemetryManager().getClassifierStatsCollector().recordRemote(elapsed);
+            if (error == null && response != null && response.getResults() != null && !response.getResults().isEmpty()) {
+                plugin.getMessageCache().put(message, response.getResults().get(0));
+                localTier.observe(message, localScore, response.getResults().get(0));
+            }
+            inFlight.remove(key, leader);
+            if (error != null) {
+                leader.completeExceptionally(error);
+            } else {
+                leader.complete(response);
+            }
+        });
+        return leader;
+    }
+
+    private static boolean isLocalRejection(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause instanceof RejectedExecutionException;
+    }
+
+    private ModerationResponse shedResponse(double localScore) {
+        return switch (plugin.getConfigManager().getApiShedPolicy()) {
+            case ALLOW -> null;
+            case LOCAL_ONLY -> localTier.isConfidentlyClean(localScore) ? ModerationResponse.local() : ModerationResponse.shed();
+            case BLOCK -> ModerationResponse.shed();
+        };
+    }
+
+    private CompletableFuture<ModerationResponse> dispatch(String message) {
+        if (plugin.getConfigManager().isApiBatchingEnabled()) {
+            return batcher.submit(message);
+        }
+
+        return send(new ModerationRequest(
+            message,
+            plugin.getConfigManager().getApiModel(),
+            plugin.getConfigManager().getApiThreshold()
+        ));
+    }
+
+    CompletableFuture<ModerationResponse> send(ModerationRequest request) {
+        if (!plugin.getConfigManager().isApiHedgingEnabled()) {
+            return execute(request, plugin.getConfigManager().getApiBaseUrl(), null);
+        }
+
+        hedger.recordRequest();
+        CompletableFuture<ModerationResponse> result = new CompletableFuture<>();
+        AtomicInteger outstanding = new AtomicInteger(1);
+        attempt(request, plugin.getConfigManager().getApiBaseUrl(), result, outstanding, false);
+
+        long delay = hedger.delayMs();
+        if (delay >= 0) {
+            ScheduledFuture<?> timer = hedger.schedule(() -> {
+                if (result.isDone() || !hedger.tryAcquire()) return;
+                outstanding.incrementAndGet();
+                plugin.getTelemetryManager().getApiStatsCollector().recordHedge(delay);
+                if (plugin.getConfigManager().isDebug()) {
+                    plugin.getLogger().info("[DEBUG-API] No response after " + delay + "ms - sending hedged request");
+                }
+                attempt(request, plugin.getConfigManager().getApiHedgingBaseUrl(), result, outstanding, true);
+            }, delay);
+            result.whenComplete((response, error) -> timer.cancel(false));
         }
+        return result;
+    }
 
+    private void attempt(ModerationRequest request, String baseUrl, CompletableFuture<ModerationResponse> result,
+                         AtomicInteger outstanding, boolean hedge) {
+        long start = System.nanoTime();
+        execute(request, baseUrl, result).whenComplete((response, error) -> {
+            if (error == null && response != null) {
+                hedger.recordLatency(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+                if (result.complete(response) && hedge) {
+                    plugin.getTelemetryManager().getApiStatsCollector().recordHedgeWon();
+                }
+            } else if (outstanding.decrementAndGet() == 0) {
+                if (error != null) {
+                    result.completeExceptionally(error);
+                } else {
+                    result.complete(null);
+                }
+            }
+        });
+    }
+
+    private CompletableFuture<ModerationResponse> execute(ModerationRequest request, String baseUrl,
+                                                          CompletableFuture<?> cancelWhenDone) {
+        boolean debug = plugin.getConfigManager().isDebug();
+        long requestStartTime = System.currentTimeMillis();
         CompletableFuture<ModerationResponse> future = new CompletableFuture<>();
 
         try {
-            ModerationRequest request = new ModerationRequest(
-                message,
-                plugin.getConfigManager().getApiModel(),
-                plugin.getConfigManager().getApiThreshold()
-            );
-
-            String jsonBody = gson.toJson(request);
-            String apiUrl = plugin.getConfigManager().getApiBaseUrl() + "/moderations";
+            String jsonBody = ModerationCodec.encode(request);
+            String apiUrl = baseUrl + "/moderations";
             String apiKey = plugin.getConfigManager().getApiKey();
             int timeout = plugin.getConfigManager().getApiTimeout();
             
             if (debug) {
                 plugin.getLogger().info("[DEBUG-API] Target URL: " + apiUrl);
-                plugin.getLogger().info("[DEBUG-API] Model: " + plugin.getConfigManager().getApiModel());
-                plugin.getLogger().info("[DEBUG-API] Threshold: " + plugin.getConfigManager().getApiThreshold());
+                plugin.getLogger().info("[DEBUG-API] Model: " + request.getModel());
+                plugin.getLogger().info("[DEBUG-API] Threshold: " + request.getThreshold());
                 plugin.getLogger().info("[DEBUG-API] Timeout Config: " + timeout + "ms");
                 plugin.getLogger().info("[DEBUG-API] API Key Present: " + (apiKey != null && !apiKey.isEmpty()));
                 plugin.getLogger().info("[DEBUG-API] API Key Length: " + (apiKey != null ? apiKey.length() : 0));
@@ -88,9 +267,13 @@ public class LoraApiClient {
                 plugin.getLogger().info("[DEBUG-API] Sending HTTP request...");
             }
 
-            httpClient.newCall(httpRequest).enqueue(new Callback() {
+            Call httpCall = plugin.getHttpTransport().enqueue(HttpTransport.Destination.API, httpRequest, new Callback() {
                 @Override
                 public void onFailure(Call call, IOException e) {
+                    if (call.isCanceled()) {
+                        future.complete(null);
+                        return;
+                    }
                     long elapsed = System.currentTimeMillis() - requestStartTime;
                     plugin.getLogger().warning("[DEBUG-API] ========== REQUEST FAILED ==========");
                     plugin.getLogger().warning("[DEBUG-API] Error Type: " + e.getClass().getSimpleName());
@@ -100,7 +283,6 @@ public class LoraApiClient {
                     if (e.getCause() != null) {
                         plugin.getLogger().warning("[DEBUG-API] Cause: " + e.getCause().getMessage());
                     }
-                    recordFailure();
                     future.complete(null);
                 }
 
@@ -121,21 +303,20 @@ public class LoraApiClient {
                             plugin.getLogger().warning("[DEBUG-API] HTTP Status: " + response.code());
                             plugin.getLogger().warning("[DEBUG-API] Error Body: " + errorBody);
                             plugin.getLogger().warning("[DEBUG-API] Response Time: " + elapsed + "ms");
-                            recordFailure();
                             future.complete(null);
                             return;
                         }
 
-                        resetFailure();
-                        String responseBody = response.body() != null ? response.body().string() : "";
-                        
-                        if (debug) {
+                        ModerationResponse moderationResponse = null;
+                        if (response.body() != null && debug) {
+                            String responseBody = response.body().string();
                             plugin.getLogger().info("[DEBUG-API] Response Body: " + responseBody);
                             plugin.getLogger().info("[DEBUG-API] Response Body Length: " + responseBody.length() + " chars");
+                            moderationResponse = ModerationCodec.decode(new StringReader(responseBody));
+                        } else if (response.body() != null) {
+                            moderationResponse = ModerationCodec.decode(response.body().charStream());
                         }
                         
-                        ModerationResponse moderationResponse = gson.fromJson(responseBody, ModerationResponse.class);
-                        
                         if (debug) {
                             plugin.getLogger().info("[DEBUG-API] Parsed Successfully: " + (moderationResponse != null));
                             if (moderationResponse != null && moderationResponse.getResults() != null) {
@@ -153,6 +334,12 @@ public class LoraApiClient {
                 }
             });
 
+            if (httpCall == null) {
+                plugin.getTelemetryManager().getApiStatsCollector().recordShed();
+                future.completeExceptionally(new RejectedExecutionException("API request queue is full"));
+            } else if (cancelWhenDone != null) {
+                cancelWhenDone.whenComplete((result, error) -> httpCall.cancel());
+            }
         } catch (Exception e) {
             plugin.getLogger().severe("[DEBUG-API] ========== REQUEST BUILD ERROR ==========");
             plugin.getLogger().severe("[DEBUG-API] Exception: " + e.getClass().getSimpleName());
@@ -163,43 +350,29 @@ public class LoraApiClient {
         return future;
     }
 
-    private boolean isCircuitOpen() {
-        if (!plugin.getConfigManager().isCircuitBreakerEnabled()) return false;
-        
-        synchronized (lock) {
-            if (failureCount >= plugin.getConfigManager().getCircuitBreakerFailureThreshold()) {
-                long now = System.currentTimeMillis();
-                long resetTime = lastFailureTime + (plugin.getConfigManager().getCircuitBreakerResetSeconds() * 1000L);
-                
-                if (now > resetTime) {
-                    failureCount = 0;
-                    return false;
-                }
-                return true;
-            }
-            return false;
-        }
+    public ConcurrencyLimiter getLimiter() {
+        return limiter;
     }
-    
-    private void recordFailure() {
-        synchronized (lock) {
-            failureCount++;
-            lastFailureTime = System.currentTimeMillis();
-        }
+
+    public int getQueuedCalls() {
+        return plugin.getHttpTransport().getLane(HttpTransport.Destination.API).getQueued();
     }
-    
-    private void resetFailure() {
-        synchronized (lock) {
-            failureCount = 0;
-        }
+
+    public LocalTier getLocalTier() {
+        return localTier;
+    }
+
+    public CircuitBreaker getBreaker() {
+        return breaker;
     }
 
     public boolean isApiAvailable() {
-        return !isCircuitOpen();
+        CircuitBreaker circuit = breaker;
+        return circuit == null || !circuit.isOpen();
     }
 
     public void shutdown() {
-        httpClient.dispatcher().executorService().shutdown();
-        httpClient.connectionPool().evictAll();
+        batcher.shutdown();
+        hedger.shutdown();
     }
 }
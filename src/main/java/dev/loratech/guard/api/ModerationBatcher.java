@@ -0,0 +1,157 @@
+package dev.loratech.guard.api;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+public class ModerationBatcher {
+
+    private final LoraGuard plugin;
+    private final LoraApiClient client;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+
+    private List<PendingMessage> pending = new ArrayList<>();
+    private int pendingChars = 0;
+    private ScheduledFuture<?> flushTask;
+
+    public ModerationBatcher(LoraGuard plugin, LoraApiClient client) {
+        this.plugin = plugin;
+        this.client = client;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LoraGuard-ApiBatcher");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public CompletableFuture<ModerationResponse> submit(String message) {
+        CompletableFuture<ModerationResponse> future = new CompletableFuture<>();
+        int maxSize = plugin.getConfigManager().getApiBatchingMaxSize();
+        int maxChars = plugin.getConfigManager().getApiBatchingMaxChars();
+
+        List<PendingMessage> overflow = null;
+        List<PendingMessage> full = null;
+
+        synchronized (lock) {
+            if (!pending.isEmpty() && pendingChars + message.length() > maxChars) {
+                overflow = drainLocked();
+            }
+
+            pending.add(new PendingMessage(message, future, System.nanoTime()));
+            pendingChars += message.length();
+
+            if (pending.size() >= maxSize || pendingChars >= maxChars) {
+                full = drainLocked();
+            } else if (flushTask == null) {
+                flushTask = scheduler.schedule(this::flush,
+                    plugin.getConfigManager().getApiBatchingWindowMs(), TimeUnit.MILLISECONDS);
+            }
+        }
+
+        if (overflow != null) {
+            dispatch(overflow, maxSize);
+        }
+        if (full != null) {
+            dispatch(full, maxSize);
+        }
+        return future;
+    }
+
+    private void flush() {
+        List<PendingMessage> batch;
+        synchronized (lock) {
+            flushTask = null;
+            if (pending.isEmpty()) return;
+            batch = drainLocked();
+        }
+        dispatch(batch, plugin.getConfigManager().getApiBatchingMaxSize());
+    }
+
+    private List<PendingMessage> drainLocked() {
+        if (flushTask != null) {
+            flushTask.cancel(false);
+            flushTask = null;
+        }
+        List<PendingMessage> batch = pending;
+        pending = new ArrayList<>();
+        pendingChars = 0;
+        return batch;
+    }
+
+    private void dispatch(List<PendingMessage> batch, int maxSize) {
+        plugin.getTelemetryManager().getApiStatsCollector().recordBatch(batch.size(), maxSize);
+        long now = System.nanoTime();
+        for (PendingMessage message : batch) {
+            plugin.getTelemetryManager().getApiStatsCollector().recordQueueTime(now - message.enqueuedAt());
+        }
+
+        String model = plugin.getConfigManager().getApiModel();
+        double threshold = plugin.getConfigManager().getApiThreshold();
+        ModerationRequest request;
+        if (batch.size() == 1) {
+            request = new ModerationRequest(batch.get(0).message(), model, threshold);
+        } else {
+            List<String> inputs = new ArrayList<>(batch.size());
+            for (PendingMessage message : batch) {
+                inputs.add(message.message());
+            }
+            request = new ModerationRequest(inputs, model, threshold);
+        }
+
+        client.send(request).whenComplete((response, error) -> {
+            if (error != null) {
+                for (PendingMessage message : batch) {
+                    message.future().completeExceptionally(error);
+                }
+                return;
+            }
+
+            List<ModerationResponse.Result> results = response != null ? response.getResults() : null;
+            if (results == null) {
+                for (PendingMessage message : batch) {
+                    message.future().complete(null);
+                }
+                return;
+            }
+
+            int failed = 0;
+            for (int i = 0; i < batch.size(); i++) {
+                ModerationResponse.Result result = i < results.size() ? results.get(i) : null;
+                if (result == null || result.hasError()) {
+                    failed++;
+                    batch.get(i).future().complete(null);
+                } else {
+                    batch.get(i).future().complete(ModerationResponse.single(response, result));
+                }
+            }
+
+            if (failed > 0) {
+                plugin.getTelemetryManager().getApiStatsCollector().recordPartialFailure(failed);
+                if (plugin.getConfigManager().isDebug()) {
+                    plugin.getLogger().warning("[DEBUG-API] Batch of " + batch.size() + " returned "
+                        + results.size() + " results, " + failed + " without a usable verdict");
+                }
+            }
+        });
+    }
+
+    public void shutdown() {
+        List<PendingMessage> remaining;
+        synchronized (lock) {
+            remaining = drainLocked();
+        }
+        for (PendingMessage message : remaining) {
+            message.future().complete(null);
+        }
+        scheduler.shutdownNow();
+    }
+
+    private record PendingMessage(String message, CompletableFuture<ModerationResponse> future, long enqueuedAt) {}
+}
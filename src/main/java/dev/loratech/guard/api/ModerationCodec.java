@@ -0,0 +1,141 @@
+package dev.loratech.guard.api;
+
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+import com.google.gson.stream.JsonWriter;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+public final class ModerationCodec {
+
+    private static final int MAX_RETAINED_CHARS = 64 * 1024;
+    private static final ThreadLocal<StringWriter> BUFFER = ThreadLocal.withInitial(() -> new StringWriter(1024));
+
+    private ModerationCodec() {
+    }
+
+    public static String encode(ModerationRequest request) throws IOException {
+        StringWriter buffer = BUFFER.get();
+        buffer.getBuffer().setLength(0);
+
+        JsonWriter writer = new JsonWriter(buffer);
+        writer.beginObject();
+        writer.name("input");
+        if (request.getInput() instanceof List<?> inputs) {
+            writer.beginArray();
+            for (Object input : inputs) {
+                writer.value((String) input);
+            }
+            writer.endArray();
+        } else {
+            writer.value((String) request.getInput());
+        }
+        writer.name("model").value(request.getModel());
+        writer.name("threshold").value(request.getThreshold());
+        writer.endObject();
+        writer.flush();
+
+        String json = buffer.toString();
+        if (buffer.getBuffer().capacity() > MAX_RETAINED_CHARS) {
+            BUFFER.remove();
+        }
+        return json;
+    }
+
+    public static ModerationResponse decode(Reader source) throws IOException {
+        JsonReader reader = new JsonReader(source);
+        if (reader.peek() == JsonToken.NULL) {
+            return null;
+        }
+
+        ModerationResponse response = new ModerationResponse();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "id" -> response.id = reader.nextString();
+                case "model" -> response.model = reader.nextString();
+                case "warning" -> response.warning = reader.nextString();
+                case "results" -> response.results = readResults(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return response;
+    }
+
+    private static List<ModerationResponse.Result> readResults(JsonReader reader) throws IOException {
+        List<ModerationResponse.Result> results = new ArrayList<>();
+        reader.beginArray();
+        while (reader.hasNext()) {
+            results.add(readResult(reader));
+        }
+        reader.endArray();
+        return results;
+    }
+
+    private static ModerationResponse.Result readResult(JsonReader reader) throws IOException {
+        ModerationResponse.Result result = new ModerationResponse.Result();
+        reader.beginObject();
+        while (reader.hasNext()) {
+            String name = reader.nextName();
+            if (reader.peek() == JsonToken.NULL) {
+                reader.nextNull();
+                continue;
+            }
+            switch (name) {
+                case "flagged" -> result.flagged = reader.nextBoolean();
+                case "error" -> result.error = reader.nextString();
+                case "categories" -> result.flaggedCategories = readFlags(reader);
+                case "category_scores" -> result.scores = readScores(reader);
+                default -> reader.skipValue();
+            }
+        }
+        reader.endObject();
+        return result;
+    }
+
+    private static long readFlags(JsonReader reader) throws IOException {
+        long mask = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int id = CategoryRegistry.idOf(reader.nextName());
+            if (reader.peek() != JsonToken.BOOLEAN) {
+                reader.skipValue();
+            } else if (reader.nextBoolean() && id >= 0) {
+                mask |= 1L << id;
+            }
+        }
+        reader.endObject();
+        return mask;
+    }
+
+    private static ScoreVector readScores(JsonReader reader) throws IOException {
+        double[] scores = new double[CategoryRegistry.size()];
+        long present = 0;
+        reader.beginObject();
+        while (reader.hasNext()) {
+            int id = CategoryRegistry.idOf(reader.nextName());
+            if (id < 0 || reader.peek() != JsonToken.NUMBER) {
+                reader.skipValue();
+                continue;
+            }
+            if (id >= scores.length) {
+                scores = Arrays.copyOf(scores, CategoryRegistry.size());
+            }
+            scores[id] = reader.nextDouble();
+            present |= 1L << id;
+        }
+        reader.endObject();
+        return ScoreVector.of(scores, present);
+    }
+}
@@ -1,14 +1,48 @@
 package dev.loratech.guard.api;
 
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Map;
 
 public class ModerationResponse {
 
-    private String id;
-    private String model;
-    private List<Result> results;
-    private String warning;
+    String id;
+    String model;
+    List<Result> results;
+    String warning;
+    private boolean local;
+    private boolean shed;
+
+    static ModerationResponse single(ModerationResponse batch, Result result) {
+        ModerationResponse response = new ModerationResponse();
+        response.id = batch.id;
+        response.model = batch.model;
+        response.results = List.of(result);
+        response.warning = batch.warning;
+        return response;
+    }
+
+    static ModerationResponse local() {
+        ModerationResponse response = new ModerationResponse();
+        response.model = "local";
+        response.results = List.of(Result.clean());
+        response.local = true;
+        return response;
+    }
+
+    static ModerationResponse shed() {
+        ModerationResponse response = new ModerationResponse();
+        response.results = List.of();
+        response.shed = true;
+        return response;
+    }
+
+    public boolean isShed() {
+        return shed;
+    }
+
+    public boolean isLocal() {
+        return local;
+    }
 
     public String getId() {
         return id;
@@ -31,21 +65,25 @@ public class ModerationResponse {
     }
 
     public static class Result {
-        private boolean flagged;
-        private Map<String, Boolean> categories;
-        private Map<String, Double> category_scores;
-        private String error;
+        boolean flagged;
+        long flaggedCategories;
+        ScoreVector scores = ScoreVector.empty();
+        String error;
+
+        static Result clean() {
+            return new Result();
+        }
 
         public boolean isFlagged() {
             return flagged;
         }
 
-        public Map<String, Boolean> getCategories() {
-            return categories;
+        public long getFlaggedMask() {
+            return flaggedCategories;
         }
 
-        public Map<String, Double> getCategoryScores() {
-            return category_scores;
+        public ScoreVector getScores() {
+            return scores;
         }
 
         public String getError() {
@@ -57,43 +95,21 @@ public class ModerationResponse {
         }
 
         public String getHighestCategory() {
-            if (category_scores == null || category_scores.isEmpty()) {
-                return "unknown";
-            }
-            
-            String highest = null;
-            double highestScore = 0;
-            
-            for (Map.Entry<String, Double> entry : category_scores.entrySet()) {
-                if (entry.getValue() > highestScore) {
-                    highestScore = entry.getValue();
-                    highest = entry.getKey();
-                }
-            }
-            
-            return highest != null ? highest : "unknown";
+            int highest = scores.highest();
+            return highest >= 0 ? CategoryRegistry.nameOf(highest) : "unknown";
         }
 
         public double getHighestScore() {
-            if (category_scores == null || category_scores.isEmpty()) {
-                return 0;
-            }
-            
-            return category_scores.values().stream()
-                .mapToDouble(Double::doubleValue)
-                .max()
-                .orElse(0);
+            int highest = scores.highest();
+            return highest >= 0 ? scores.score(highest) : 0;
         }
 
         public List<String> getFlaggedCategories() {
-            if (categories == null) {
-                return List.of();
+            List<String> flagged = new ArrayList<>(Long.bitCount(flaggedCategories));
+            for (long mask = flaggedCategories; mask != 0; mask &= mask - 1) {
+                flagged.add(CategoryRegistry.nameOf(Long.numberOfTrailingZeros(mask)));
             }
-            
-            return categories.entrySet().stream()
-                .filter(Map.Entry::getValue)
-                .map(Map.Entry::getKey)
-                .toList();
+            return flagged;
         }
     }
 }
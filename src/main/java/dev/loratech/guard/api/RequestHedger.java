@@ -0,0 +1,80 @@
+package dev.loratech.guard.api;
+
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.util.LatencyHistogram;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class RequestHedger {
+
+    private static final int MIN_SAMPLES = 20;
+    private static final long WINDOW_SECONDS = 60;
+
+    private final LoraGuard plugin;
+    private final ScheduledExecutorService scheduler;
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private volatile LatencyHistogram current = new LatencyHistogram();
+    private volatile LatencyHistogram previous = new LatencyHistogram();
+
+    public RequestHedger(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LoraGuard-ApiHedger");
+            thread.setDaemon(true);
+            return thread;
+        });
+        scheduler.scheduleAtFixedRate(this::rotate, WINDOW_SECONDS, WINDOW_SECONDS, TimeUnit.SECONDS);
+    }
+
+    private void rotate() {
+        previous = current;
+        current = new LatencyHistogram();
+        requests.reset();
+        hedges.reset();
+    }
+
+    public void recordLatency(long millis) {
+        current.record(millis);
+    }
+
+    public long delayMs() {
+        long[] totals = new long[LatencyHistogram.BUCKETS];
+        current.addTo(totals);
+        previous.addTo(totals);
+
+        long samples = 0;
+        for (long count : totals) {
+            samples += count;
+        }
+        if (samples < MIN_SAMPLES) return -1;
+
+        long delay = LatencyHistogram.percentile(totals, plugin.getConfigManager().getApiHedgingPercentile() / 100.0);
+        return Math.max(plugin.getConfigManager().getApiHedgingMinDelayMs(), delay);
+    }
+
+    public void recordRequest() {
+        requests.increment();
+    }
+
+    public boolean tryAcquire() {
+        double budget = plugin.getConfigManager().getApiHedgingBudgetPercent() / 100.0;
+        if (hedges.sum() + 1 > requests.sum() * budget) {
+            return false;
+        }
+        hedges.increment();
+        return true;
+    }
+
+    public ScheduledFuture<?> schedule(Runnable task, long delayMs) {
+        return scheduler.schedule(task, delayMs, TimeUnit.MILLISECONDS);
+    }
+
+    public void shutdown() {
+        scheduler.shutdownNow();
+    }
+}
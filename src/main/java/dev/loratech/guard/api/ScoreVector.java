@@ -0,0 +1,116 @@
+package dev.loratech.guard.api;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+
+public final class ScoreVector {
+
+    private static final ScoreVector EMPTY = new ScoreVector(new double[0], 0L);
+
+    private final double[] scores;
+    private final long present;
+
+    private ScoreVector(double[] scores, long present) {
+        this.scores = scores;
+        this.present = present;
+    }
+
+    public static ScoreVector empty() {
+        return EMPTY;
+    }
+
+    public static ScoreVector of(double[] scores, long present) {
+        return present == 0 ? EMPTY : new ScoreVector(scores, present);
+    }
+
+    public static ScoreVector of(String category, double score) {
+        int id = CategoryRegistry.idOf(category);
+        if (id < 0) return EMPTY;
+        double[] scores = new double[id + 1];
+        scores[id] = score;
+        return new ScoreVector(scores, 1L << id);
+    }
+
+    public double score(int category) {
+        return category >= 0 && (present & (1L << category)) != 0 ? scores[category] : Double.NaN;
+    }
+
+    public long presentMask() {
+        return present;
+    }
+
+    public int size() {
+        return Long.bitCount(present);
+    }
+
+    public boolean isEmpty() {
+        return present == 0;
+    }
+
+    public int highest() {
+        int highest = -1;
+        double highestScore = 0;
+        for (long mask = present; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            if (scores[id] > highestScore) {
+                highestScore = scores[id];
+                highest = id;
+            }
+        }
+        return highest;
+    }
+
+    public int best(long enabled, double[] thresholds) {
+        int best = -1;
+        double bestScore = -1.0;
+        for (long mask = present & enabled; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            double score = scores[id];
+            if (score >= thresholds[id] && score > bestScore) {
+                bestScore = score;
+                best = id;
+            }
+        }
+        return best;
+    }
+
+    public Map<String, Double> toMap() {
+        Map<String, Double> map = new HashMap<>();
+        for (long mask = present; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            map.put(CategoryRegistry.nameOf(id), scores[id]);
+        }
+        return map;
+    }
+
+    public String encode() {
+        StringJoiner joiner = new StringJoiner(",");
+        for (long mask = present; mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            joiner.add(CategoryRegistry.nameOf(id) + "=" + scores[id]);
+        }
+        return joiner.toString();
+    }
+
+    public static ScoreVector decode(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return EMPTY;
+        }
+        double[] scores = new double[CategoryRegistry.MAX_CATEGORIES];
+        long present = 0;
+        for (String pair : encoded.split(",")) {
+            int separator = pair.lastIndexOf('=');
+            if (separator <= 0) continue;
+            try {
+                double score = Double.parseDouble(pair.substring(separator + 1));
+                int id = CategoryRegistry.idOf(pair.substring(0, separator));
+                if (id < 0) continue;
+                scores[id] = score;
+                present |= 1L << id;
+            } catch (NumberFormatException ignored) {}
+        }
+        return of(Arrays.copyOf(scores, 64 - Long.numberOfLeadingZeros(present)), present);
+    }
+}
@@ -0,0 +1,16 @@
+package dev.loratech.guard.api;
+
+public enum ShedPolicy {
+    ALLOW,
+    LOCAL_ONLY,
+    BLOCK;
+
+    public static ShedPolicy from(String value) {
+        if (value == null) return ALLOW;
+        return switch (value.trim().toLowerCase().replace('_', '-')) {
+            case "local-only", "local" -> LOCAL_ONLY;
+            case "block" -> BLOCK;
+            default -> ALLOW;
+        };
+    }
+}
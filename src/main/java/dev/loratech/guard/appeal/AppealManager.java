@@ -123,18 +123,6 @@ public class AppealManager {
         String message = plugin.getLanguageManager().getPrefixed("appeal.staff-notify",
             "player", playerName, "type", type, "id", String.valueOf(appealId));
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Player staff : Bukkit.getOnlinePlayers()) {
-                if (staff.hasPermission(permission)) {
-                    staff.sendMessage(message);
-                    
-                    try {
-                        String soundName = plugin.getConfigManager().getAlertSound();
-                        org.bukkit.Sound sound = org.bukkit.Sound.valueOf(soundName);
-                        staff.playSound(staff.getLocation(), sound, 1.0f, 1.0f);
-                    } catch (IllegalArgumentException ignored) {}
-                }
-            }
-        });
+        plugin.getStaffNotifier().alert(permission, true, message);
     }
 }
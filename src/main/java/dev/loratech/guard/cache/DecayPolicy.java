@@ -0,0 +1,40 @@
+package dev.loratech.guard.cache;
+
+import dev.loratech.guard.config.ConfigManager;
+
+public record DecayPolicy(long cooldownMs, long intervalMs, int amount,
+                          boolean warningEnabled, long warningCooldownMs, long warningIntervalMs, int warningAmount) {
+
+    private static final long HOUR_MS = 3600000L;
+    private static final long MINUTE_MS = 60000L;
+
+    public static DecayPolicy from(ConfigManager config) {
+        return new DecayPolicy(
+            Math.max(0, config.getViolationCooldownHours()) * HOUR_MS,
+            Math.max(1, config.getViolationDecayCheckMinutes()) * MINUTE_MS,
+            Math.max(0, config.getViolationDecayAmount()),
+            config.isWarningDecayEnabled(),
+            Math.max(0, config.getWarningDecayHours()) * HOUR_MS,
+            Math.max(1, config.getWarningDecayCheckMinutes()) * MINUTE_MS,
+            Math.max(0, config.getWarningDecayAmount())
+        );
+    }
+
+    public int apply(int points, long lastViolation, long syncedAt, long now) {
+        if (points <= 0 || now <= syncedAt) return Math.max(0, points);
+
+        long since = now - lastViolation;
+        long synced = syncedAt - lastViolation;
+        long decay = amount * (steps(since, cooldownMs, intervalMs) - steps(synced, cooldownMs, intervalMs));
+        if (warningEnabled) {
+            decay += warningAmount * (steps(since, warningCooldownMs, warningIntervalMs)
+                - steps(synced, warningCooldownMs, warningIntervalMs));
+        }
+        return (int) Math.max(0, points - decay);
+    }
+
+    private static long steps(long elapsed, long cooldown, long interval) {
+        if (elapsed < cooldown) return 0;
+        return (elapsed - cooldown) / interval + 1;
+    }
+}
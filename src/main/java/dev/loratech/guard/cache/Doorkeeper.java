@@ -0,0 +1,45 @@
+package dev.loratech.guard.cache;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class Doorkeeper {
+
+    private static final int HASHES = 3;
+
+    private final AtomicLongArray bits;
+    private final int mask;
+    private final int resetAfter;
+    private final AtomicInteger insertions = new AtomicInteger();
+
+    public Doorkeeper(int expectedInsertions) {
+        int bitCount = Integer.highestOneBit(Math.max(64, expectedInsertions * 8 - 1)) << 1;
+        this.bits = new AtomicLongArray(bitCount >>> 6);
+        this.mask = bitCount - 1;
+        this.resetAfter = Math.max(1, expectedInsertions);
+    }
+
+    public boolean admit(MessageKey key) {
+        boolean seen = true;
+        for (int i = 0; i < HASHES; i++) {
+            int bit = (int) (key.hi() + i * key.lo()) & mask;
+            long flag = 1L << (bit & 63);
+            long previous = bits.getAndAccumulate(bit >>> 6, flag, (current, value) -> current | value);
+            if ((previous & flag) == 0) {
+                seen = false;
+            }
+        }
+
+        if (!seen && insertions.incrementAndGet() >= resetAfter) {
+            clear();
+        }
+        return seen;
+    }
+
+    public void clear() {
+        insertions.set(0);
+        for (int i = 0; i < bits.length(); i++) {
+            bits.set(i, 0);
+        }
+    }
+}
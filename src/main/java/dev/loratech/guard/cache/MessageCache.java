@@ -2,40 +2,76 @@ package dev.loratech.guard.cache;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import dev.loratech.guard.LoraGuard;
 import dev.loratech.guard.api.ModerationResponse;
+import dev.loratech.guard.api.ScoreVector;
+import org.bukkit.Bukkit;
 
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 public class MessageCache {
 
+    private static final int ENTRY_OVERHEAD_BYTES = 128;
+    private static final int SCORE_ENTRY_BYTES = 48;
+
     private final LoraGuard plugin;
-    private Cache<String, CachedResult> cache;
+    private Cache<MessageKey, CachedResult> cleanCache;
+    private Cache<MessageKey, CachedResult> flaggedCache;
+    private Doorkeeper doorkeeper;
 
     public MessageCache(LoraGuard plugin) {
         this.plugin = plugin;
         initCache();
+        warm();
     }
 
     private void initCache() {
         if (!plugin.getConfigManager().isCacheEnabled()) {
-            cache = null;
+            cleanCache = null;
+            flaggedCache = null;
             return;
         }
 
-        cache = Caffeine.newBuilder()
-            .maximumSize(plugin.getConfigManager().getCacheMaxSize())
-            .expireAfterWrite(plugin.getConfigManager().getCacheExpireMinutes(), TimeUnit.MINUTES)
+        long cleanWeight = plugin.getConfigManager().getCleanCacheMaxMemoryKb() * 1024L;
+        cleanCache = buildTier(cleanWeight, plugin.getConfigManager().getCleanCacheExpireMinutes(), false);
+        flaggedCache = buildTier(plugin.getConfigManager().getFlaggedCacheMaxMemoryKb() * 1024L,
+            plugin.getConfigManager().getFlaggedCacheExpireMinutes(), true);
+
+        doorkeeper = plugin.getConfigManager().isCacheDoorkeeperEnabled()
+            ? new Doorkeeper((int) Math.min(Integer.MAX_VALUE, cleanWeight / ENTRY_OVERHEAD_BYTES))
+            : null;
+    }
+
+    private Cache<MessageKey, CachedResult> buildTier(long maxWeight, int expireMinutes, boolean flagged) {
+        return Caffeine.newBuilder()
+            .maximumWeight(maxWeight)
+            .weigher((MessageKey key, CachedResult result) -> weigh(result))
+            .evictionListener((MessageKey key, CachedResult result, RemovalCause cause) ->
+                plugin.getTelemetryManager().getCacheStatsCollector().recordEviction(flagged))
+            .expireAfterWrite(expireMinutes, TimeUnit.MINUTES)
             .build();
     }
 
+    private static int weigh(CachedResult result) {
+        int weight = ENTRY_OVERHEAD_BYTES + (result.category() != null ? result.category().length() * 2 : 0);
+        return weight + result.scores().size() * SCORE_ENTRY_BYTES;
+    }
+
     public CachedResult get(String message) {
-        if (cache == null) {
+        if (cleanCache == null) {
             return null;
         }
-        CachedResult result = cache.getIfPresent(normalize(message));
+        MessageKey key = MessageKey.of(message);
+        CachedResult result = cleanCache.getIfPresent(key);
         if (result != null) {
-            plugin.getTelemetryManager().recordCacheHit();
+            plugin.getTelemetryManager().recordCacheHit(false);
+            return result;
+        }
+        result = flaggedCache.getIfPresent(key);
+        if (result != null) {
+            plugin.getTelemetryManager().recordCacheHit(true);
         } else {
             plugin.getTelemetryManager().recordCacheMiss();
         }
@@ -43,29 +79,79 @@ public class MessageCache {
     }
 
     public void put(String message, ModerationResponse.Result result) {
-        if (cache == null) {
+        if (cleanCache == null) {
+            return;
+        }
+        MessageKey key = MessageKey.of(message);
+        if (!result.isFlagged() && doorkeeper != null && !doorkeeper.admit(key)) {
+            return;
+        }
+
+        CachedResult cached = new CachedResult(result.isFlagged(), result.getHighestCategory(), result.getHighestScore(), result.getScores());
+        store(key, cached);
+
+        if (plugin.getConfigManager().isPersistentCacheEnabled()) {
+            plugin.getDatabaseManager().saveVerdict(key, cached,
+                plugin.getConfigManager().getApiModel(), plugin.getConfigManager().getApiThreshold());
+        }
+    }
+
+    private void store(MessageKey key, CachedResult cached) {
+        if (cached.flagged()) {
+            cleanCache.invalidate(key);
+            flaggedCache.put(key, cached);
+        } else {
+            flaggedCache.invalidate(key);
+            cleanCache.put(key, cached);
+        }
+    }
+
+    private void warm() {
+        if (cleanCache == null || !plugin.getConfigManager().isPersistentCacheEnabled()) {
             return;
         }
-        cache.put(normalize(message), new CachedResult(result.isFlagged(), result.getHighestCategory(), result.getHighestScore()));
+
+        Cache<MessageKey, CachedResult> clean = cleanCache;
+        Cache<MessageKey, CachedResult> flagged = flaggedCache;
+        String model = plugin.getConfigManager().getApiModel();
+        double threshold = plugin.getConfigManager().getApiThreshold();
+        long maxAge = TimeUnit.DAYS.toMillis(plugin.getConfigManager().getPersistentCacheMaxAgeDays());
+        int limit = plugin.getConfigManager().getPersistentCacheWarmLimit();
+
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            plugin.getDatabaseManager().pruneVerdicts(model, threshold, System.currentTimeMillis() - maxAge);
+            Map<MessageKey, CachedResult> verdicts = plugin.getDatabaseManager().loadVerdicts(model, threshold, limit);
+            verdicts.forEach((key, cached) -> (cached.flagged() ? flagged : clean).put(key, cached));
+            if (plugin.getConfigManager().isDebug()) {
+                plugin.getLogger().info("Warmed message cache with " + verdicts.size() + " stored verdicts");
+            }
+        });
     }
 
     public void clear() {
-        if (cache != null) {
-            cache.invalidateAll();
+        if (cleanCache != null) {
+            cleanCache.invalidateAll();
+            flaggedCache.invalidateAll();
         }
         initCache();
+        warm();
     }
 
     public long size() {
-        if (cache == null) {
+        if (cleanCache == null) {
             return 0;
         }
-        return cache.estimatedSize();
+        return cleanCache.estimatedSize() + flaggedCache.estimatedSize();
     }
 
-    private String normalize(String message) {
-        return message.toLowerCase().trim().replaceAll("\\s+", " ");
+    public long cleanSize() {
+        return cleanCache != null ? cleanCache.estimatedSize() : 0;
     }
 
-    public record CachedResult(boolean flagged, String category, double score) {}
+    public long flaggedSize() {
+        return flaggedCache != null ? flaggedCache.estimatedSize() : 0;
+    }
+
+    public record CachedResult(boolean flagged, String category, double score, ScoreVector scores) {
+    }
 }
@@ -0,0 +1,54 @@
+package dev.loratech.guard.cache;
+
+import dev.loratech.guard.util.TextUtil;
+
+public record MessageKey(long hi, long lo) {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+    private static final long MIX_SEED = 0x9e3779b97f4a7c15L;
+    private static final long MIX_MULTIPLIER = 0xff51afd7ed558ccdL;
+
+    public static MessageKey of(String message) {
+        long hi = FNV_OFFSET;
+        long lo = MIX_SEED;
+        boolean empty = true;
+        boolean pendingSpace = false;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (Character.isWhitespace(c)) {
+                pendingSpace = !empty;
+            } else if (!TextUtil.isIgnorable(c)) {
+                if (pendingSpace) {
+                    hi = fnv(hi, ' ');
+                    lo = mix(lo, ' ');
+                    pendingSpace = false;
+                }
+                char folded = TextUtil.foldChar(c);
+                hi = fnv(hi, folded);
+                lo = mix(lo, folded);
+                empty = false;
+            }
+        }
+        return new MessageKey(hi, finish(lo));
+    }
+
+    private static long fnv(long hash, char c) {
+        hash ^= c & 0xff;
+        hash *= FNV_PRIME;
+        hash ^= c >>> 8;
+        return hash * FNV_PRIME;
+    }
+
+    private static long mix(long hash, char c) {
+        return Long.rotateLeft((hash ^ c) * MIX_MULTIPLIER, 31);
+    }
+
+    private static long finish(long hash) {
+        hash ^= hash >>> 33;
+        hash *= MIX_MULTIPLIER;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        return hash ^ (hash >>> 33);
+    }
+}
@@ -0,0 +1,236 @@
+package dev.loratech.guard.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import dev.loratech.guard.LoraGuard;
+import org.bukkit.Bukkit;
+import org.bukkit.entity.Player;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class ViolationLedger {
+
+    private static final long OFFLINE_REFRESH_MS = 60000;
+
+    private final LoraGuard plugin;
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Set<UUID> dirty = ConcurrentHashMap.newKeySet();
+    private final Set<UUID> pendingEviction = ConcurrentHashMap.newKeySet();
+    private final Cache<UUID, OfflineEntry> offlineEntries = Caffeine.newBuilder()
+        .maximumSize(1000)
+        .expireAfterAccess(10, TimeUnit.MINUTES)
+        .build();
+    private final Set<UUID> offlineLoading = ConcurrentHashMap.newKeySet();
+    private volatile DecayPolicy decayPolicy;
+    private BukkitTask flushTask;
+
+    public ViolationLedger(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.decayPolicy = DecayPolicy.from(plugin.getConfigManager());
+    }
+
+    public void reload() {
+        decayPolicy = DecayPolicy.from(plugin.getConfigManager());
+    }
+
+    public void start() {
+        long intervalTicks = plugin.getConfigManager().getLedgerFlushSeconds() * 20L;
+        flushTask = Bukkit.getScheduler().runTaskTimerAsynchronously(plugin, this::flush, intervalTicks, intervalTicks);
+
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            UUID uuid = player.getUniqueId();
+            Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> load(uuid));
+        }
+    }
+
+    public void load(UUID uuid) {
+        pendingEviction.remove(uuid);
+        offlineEntries.invalidate(uuid);
+        tryLoad(uuid);
+    }
+
+    private boolean tryLoad(UUID uuid) {
+        Entry current = entries.get(uuid);
+        if (current != null && current.loaded()) return true;
+
+        Entry stored;
+        try {
+            stored = plugin.getDatabaseManager().loadLedgerEntry(uuid);
+        } catch (SQLException e) {
+            return false;
+        }
+        entries.merge(uuid, stored != null ? stored : Entry.EMPTY,
+            (existing, loaded) -> existing.loaded() ? existing : absorb(loaded, existing));
+        return true;
+    }
+
+    private Entry absorb(Entry stored, Entry pending) {
+        long now = System.currentTimeMillis();
+        String name = pending.playerName() != null ? pending.playerName() : stored.playerName();
+        return new Entry(name, decayed(stored, now) + pending.points(),
+            stored.totalViolations() + pending.totalViolations(),
+            Math.max(stored.lastViolation(), pending.lastViolation()), now, true);
+    }
+
+    public void unload(UUID uuid) {
+        if (dirty.contains(uuid)) {
+            pendingEviction.add(uuid);
+        } else {
+            entries.remove(uuid);
+        }
+    }
+
+    public boolean isLoaded(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        return entry != null && entry.loaded();
+    }
+
+    public int getPoints(UUID uuid) {
+        Entry entry = entries.get(uuid);
+        return entry != null ? decayed(entry, System.currentTimeMillis()) : 0;
+    }
+
+    public int getStoredPoints(UUID uuid) {
+        long now = System.currentTimeMillis();
+        Entry entry = entries.get(uuid);
+        if (entry != null) {
+            return decayed(entry, now);
+        }
+
+        OfflineEntry offline = offlineEntries.getIfPresent(uuid);
+        if (offline == null || now - offline.fetchedAt() > OFFLINE_REFRESH_MS) {
+            loadOfflineAsync(uuid);
+        }
+        return offline != null ? decayed(offline.entry(), now) : 0;
+    }
+
+    private void loadOfflineAsync(UUID uuid) {
+        if (!offlineLoading.add(uuid)) return;
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+            try {
+                Entry stored = plugin.getDatabaseManager().loadLedgerEntry(uuid);
+                offlineEntries.put(uuid, new OfflineEntry(stored != null ? stored : Entry.EMPTY, System.currentTimeMillis()));
+            } catch (SQLException ignored) {
+            } finally {
+                offlineLoading.remove(uuid);
+            }
+        });
+    }
+
+    private int decayed(Entry entry, long now) {
+        return decayPolicy.apply(entry.points(), entry.lastViolation(), entry.syncedAt(), now);
+    }
+
+    public int addPoints(UUID uuid, String playerName, int points) {
+        if (!isLoaded(uuid)) {
+            tryLoad(uuid);
+        }
+        long now = System.currentTimeMillis();
+        Entry updated = entries.compute(uuid, (key, current) -> {
+            if (current == null) {
+                return new Entry(playerName, points, 1, now, now, false);
+            }
+            if (!current.loaded()) {
+                return new Entry(playerName, current.points() + points, current.totalViolations() + 1, now, now, false);
+            }
+            return new Entry(playerName, decayed(current, now) + points, current.totalViolations() + 1, now, now, true);
+        });
+        dirty.add(uuid);
+        return updated.points();
+    }
+
+    public void reset(UUID uuid) {
+        long now = System.currentTimeMillis();
+        Entry updated = entries.computeIfPresent(uuid, (key, current) ->
+            new Entry(current.playerName(), 0, current.totalViolations(), current.lastViolation(), now, current.loaded()));
+        if (updated != null && updated.loaded()) {
+            dirty.add(uuid);
+        } else {
+            plugin.getDatabaseManager().resetViolationPoints(uuid);
+        }
+        offlineEntries.invalidate(uuid);
+    }
+
+    private void materializeDecay() {
+        long now = System.currentTimeMillis();
+        for (UUID uuid : entries.keySet()) {
+            boolean[] changed = new boolean[1];
+            entries.computeIfPresent(uuid, (key, current) -> {
+                if (!current.loaded()) return current;
+                int points = decayed(current, now);
+                if (points == current.points()) return current;
+                changed[0] = true;
+                return new Entry(current.playerName(), points, current.totalViolations(), current.lastViolation(), now, true);
+            });
+            if (changed[0]) {
+                dirty.add(uuid);
+            }
+        }
+    }
+
+    public void flush() {
+        materializeDecay();
+        if (dirty.isEmpty() && pendingEviction.isEmpty()) return;
+
+        int batchSize = plugin.getConfigManager().getWriteBehindBatchSize();
+        Map<UUID, Entry> batch = new HashMap<>();
+        for (UUID uuid : new ArrayList<>(dirty)) {
+            if (!tryLoad(uuid)) continue;
+            dirty.remove(uuid);
+            Entry entry = entries.get(uuid);
+            if (entry != null && entry.playerName() != null) {
+                batch.put(uuid, entry);
+            }
+            if (batch.size() >= batchSize) {
+                save(batch);
+                batch = new HashMap<>();
+            }
+        }
+
+        if (!batch.isEmpty()) {
+            save(batch);
+        }
+
+        for (UUID uuid : pendingEviction) {
+            if (!dirty.contains(uuid) && Bukkit.getPlayer(uuid) == null) {
+                pendingEviction.remove(uuid);
+                entries.remove(uuid);
+            }
+        }
+    }
+
+    private void save(Map<UUID, Entry> batch) {
+        if (!plugin.getDatabaseManager().saveLedgerEntries(batch)) {
+            dirty.addAll(batch.keySet());
+        }
+    }
+
+    public void shutdown() {
+        if (flushTask != null) {
+            flushTask.cancel();
+        }
+        flush();
+        if (!dirty.isEmpty()) {
+            plugin.getLogger().warning("Could not save violation points for " + dirty.size() + " players; the database is unavailable");
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private record OfflineEntry(Entry entry, long fetchedAt) {}
+
+    public record Entry(String playerName, int points, int totalViolations, long lastViolation, long syncedAt,
+                        boolean loaded) {
+        public static final Entry EMPTY = new Entry(null, 0, 0, 0, 0, true);
+    }
+}
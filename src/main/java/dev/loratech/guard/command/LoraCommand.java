@@ -1,9 +1,14 @@
 package dev.loratech.guard.command;
 
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.ClassifierTrainer;
+import dev.loratech.guard.api.LocalClassifier;
+import dev.loratech.guard.api.LocalTier;
 import dev.loratech.guard.appeal.Appeal;
 import dev.loratech.guard.database.DatabaseManager;
 import dev.loratech.guard.gui.MainMenuGUI;
+import dev.loratech.guard.hook.WebhookQueue;
+import dev.loratech.guard.telemetry.ClassifierStatsCollector;
 import dev.loratech.guard.util.TextUtil;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
@@ -14,10 +19,13 @@ import org.bukkit.command.TabCompleter;
 import org.bukkit.entity.Player;
 
 import java.io.File;
+import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Date;
 import java.util.List;
 import java.util.UUID;
+import java.util.logging.Level;
 import java.util.stream.Collectors;
 
 public class LoraCommand implements CommandExecutor, TabCompleter {
@@ -26,7 +34,7 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
     private static final List<String> SUBCOMMANDS = Arrays.asList(
         "reload", "toggle", "stats", "history", "clear", "whitelist", 
         "mute", "unmute", "ban", "unban", "kick", "test", "setlang", "gui", "help",
-        "bulkmute", "bulkunmute", "export", "appeal", "slowmode", "reports"
+        "bulkmute", "bulkunmute", "export", "appeal", "slowmode", "reports", "model"
     );
 
     public LoraCommand(LoraGuard plugin) {
@@ -66,6 +74,7 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
             case "bulkmute" -> handleBulkMute(sender, args);
             case "bulkunmute" -> handleBulkUnmute(sender);
             case "export" -> handleExport(sender, args);
+            case "model" -> handleModel(sender, args);
             case "appeal" -> handleAppeal(sender, args);
             case "slowmode", "yavasMod", "yavasmod" -> handleSlowmode(sender, args);
             case "help", "yardim", "yardım" -> sendHelp(sender);
@@ -107,6 +116,15 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
                     ? plugin.getLanguageManager().get("misc.online")
                     : plugin.getLanguageManager().get("misc.offline");
                 sender.sendMessage(plugin.getLanguageManager().get("commands.stats.api-status", "status", apiStatus));
+                sender.sendMessage(plugin.getLanguageManager().get("commands.stats.violation-queue",
+                    "count", String.valueOf(plugin.getPunishmentManager().getPipeline().getQueueDepth()),
+                    "max", String.valueOf(plugin.getPunishmentManager().getPipeline().getCapacity())));
+                WebhookQueue webhooks = plugin.getDiscordHook().getQueue();
+                sender.sendMessage(plugin.getLanguageManager().get("commands.stats.webhook-queue",
+                    "count", String.valueOf(webhooks.getDepth()),
+                    "max", String.valueOf(plugin.getConfigManager().getDiscordMaxQueued()),
+                    "dropped", String.valueOf(webhooks.getDropped()),
+                    "collapsed", String.valueOf(webhooks.getCollapsed())));
             });
         });
     }
@@ -170,7 +188,7 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
 
         Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
             plugin.getDatabaseManager().clearPlayerHistory(targetUuid);
-            plugin.getDatabaseManager().resetViolationPoints(targetUuid);
+            plugin.getViolationLedger().reset(targetUuid);
             
             Bukkit.getScheduler().runTask(plugin, () -> 
                 sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.clear.success",
@@ -450,14 +468,11 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
         String message = String.join(" ", Arrays.copyOfRange(args, 1, args.length));
         sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.test.checking"));
 
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                if (message.toLowerCase().contains(word.toLowerCase())) {
-                    sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.test.result-flagged",
-                        "categories", "blacklist (" + word + ")"));
-                    return;
-                }
-            }
+        String blacklisted = plugin.getFilterManager().getBlacklistMatcher().findFirst(TextUtil.normalizedView(message));
+        if (blacklisted != null) {
+            sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.test.result-flagged",
+                "categories", "blacklist (" + blacklisted + ")"));
+            return;
         }
 
         plugin.getApiClient().moderate(message).thenAccept(response -> {
@@ -617,6 +632,88 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
         });
     }
 
+    private void handleModel(CommandSender sender, String[] args) {
+        if (args.length < 2) {
+            sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.usage",
+                "usage", "/lg model <train|reload|status>"));
+            return;
+        }
+
+        LocalTier tier = plugin.getApiClient().getLocalTier();
+        switch (args[1].toLowerCase()) {
+            case "train" -> {
+                if (tier.getTrainer().isRunning()) {
+                    sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-running"));
+                    return;
+                }
+                sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-started"));
+
+                Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                    try {
+                        ClassifierTrainer.Result result = tier.getTrainer().train(rows ->
+                            Bukkit.getScheduler().runTask(plugin, () ->
+                                sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-progress",
+                                    "rows", String.valueOf(rows)))));
+
+                        Bukkit.getScheduler().runTask(plugin, () -> {
+                            if (result.isTrained()) {
+                                sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-success",
+                                    "flagged", String.valueOf(result.flagged()),
+                                    "clean", String.valueOf(result.clean()),
+                                    "time", String.valueOf(result.elapsedMs())));
+                            } else {
+                                sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-insufficient",
+                                    "flagged", String.valueOf(result.flagged()),
+                                    "clean", String.valueOf(result.clean()),
+                                    "min", String.valueOf(ClassifierTrainer.MIN_SAMPLES_PER_CLASS)));
+                            }
+                        });
+                    } catch (IllegalStateException e) {
+                        Bukkit.getScheduler().runTask(plugin, () ->
+                            sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-running")));
+                    } catch (Exception e) {
+                        plugin.getLogger().log(Level.SEVERE, "Failed to train local classifier", e);
+                        Bukkit.getScheduler().runTask(plugin, () ->
+                            sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.model.train-failed")));
+                    }
+                });
+            }
+            case "reload" -> Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
+                boolean loaded = tier.reloadModel();
+                Bukkit.getScheduler().runTask(plugin, () ->
+                    sender.sendMessage(plugin.getLanguageManager().getPrefixed(
+                        loaded ? "commands.model.reload-success" : "commands.model.reload-missing")));
+            });
+            case "status" -> {
+                ClassifierStatsCollector stats = plugin.getTelemetryManager().getClassifierStatsCollector();
+                LocalClassifier classifier = tier.getClassifier();
+
+                sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-header"));
+                sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-state",
+                    "enabled", String.valueOf(tier.isEnabled()),
+                    "shadow", String.valueOf(tier.isShadow()),
+                    "training", String.valueOf(tier.getTrainer().isRunning())));
+                if (classifier != null) {
+                    sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-model",
+                        "samples", String.valueOf(classifier.getSamples()),
+                        "features", String.valueOf(1 << classifier.getBits()),
+                        "trained", new SimpleDateFormat("dd/MM/yyyy HH:mm").format(new Date(classifier.getTrainedAt()))));
+                } else {
+                    sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-no-model"));
+                }
+                sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-metrics",
+                    "passes", String.valueOf(stats.getLocalPasses()),
+                    "compared", String.valueOf(stats.getComparisons()),
+                    "precision", String.format("%.2f", stats.getCleanPrecision() * 100)));
+                sender.sendMessage(plugin.getLanguageManager().get("commands.model.status-latency",
+                    "local", String.format("%.1f", stats.getLocalAverageMicros()),
+                    "remote", String.format("%.1f", stats.getRemoteAverageMillis())));
+            }
+            default -> sender.sendMessage(plugin.getLanguageManager().getPrefixed("commands.usage",
+                "usage", "/lg model <train|reload|status>"));
+        }
+    }
+
     private void handleAppeal(CommandSender sender, String[] args) {
         if (args.length < 2) {
             sender.sendMessage(plugin.getLanguageManager().get("commands.appeal.list"));
@@ -766,6 +863,7 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
         sender.sendMessage(plugin.getLanguageManager().get("commands.help.setlang"));
         sender.sendMessage(plugin.getLanguageManager().get("commands.help.gui"));
         sender.sendMessage(plugin.getLanguageManager().get("commands.help.slowmode"));
+        sender.sendMessage(plugin.getLanguageManager().get("commands.help.model"));
     }
 
     private OfflinePlayer resolvePlayer(String name) {
@@ -828,6 +926,9 @@ public class LoraCommand implements CommandExecutor, TabCompleter {
             if (sub.equals("appeal")) {
                 return Arrays.asList("list", "approve", "deny");
             }
+            if (sub.equals("model")) {
+                return Arrays.asList("train", "reload", "status");
+            }
             if (sub.equals("slowmode") || sub.equals("yavasmod")) {
                 return Arrays.asList("on", "off", "set", "ac", "kapat", "ayarla");
             }
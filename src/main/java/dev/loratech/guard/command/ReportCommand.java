@@ -107,13 +107,7 @@ public class ReportCommand implements CommandExecutor, TabCompleter {
         String message = plugin.getLanguageManager().getPrefixed("commands.report.staff-notify",
             "reporter", reporterName, "reported", reportedName, "id", String.valueOf(reportId));
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Player staff : Bukkit.getOnlinePlayers()) {
-                if (staff.hasPermission(permission)) {
-                    staff.sendMessage(message);
-                }
-            }
-        });
+        plugin.getStaffNotifier().alert(permission, false, message);
     }
 
     @Override
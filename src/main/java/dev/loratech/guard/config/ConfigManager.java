@@ -1,6 +1,8 @@
 package dev.loratech.guard.config;
 
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.CategoryRegistry;
+import dev.loratech.guard.api.ShedPolicy;
 import org.bukkit.configuration.file.FileConfiguration;
 
 import java.util.List;
@@ -11,16 +13,38 @@ public class ConfigManager {
 
     private final LoraGuard plugin;
     private FileConfiguration config;
+    private volatile ConfigSnapshot snapshot;
 
     public ConfigManager(LoraGuard plugin) {
         this.plugin = plugin;
         plugin.saveDefaultConfig();
         this.config = plugin.getConfig();
+        this.snapshot = ConfigSnapshot.load(config);
+        warnLegacyKeys();
     }
 
     public void reload() {
         plugin.reloadConfig();
         this.config = plugin.getConfig();
+        this.snapshot = ConfigSnapshot.load(config);
+        warnLegacyKeys();
+    }
+
+    private void warnLegacyKeys() {
+        Map<String, String> legacyKeys = Map.of(
+            "cache.expire-minutes", "cache.clean.expire-minutes",
+            "cache.max-memory-kb", "cache.clean.max-memory-kb",
+            "cache.max-size", "cache.clean.max-memory-kb"
+        );
+        legacyKeys.forEach((legacy, replacement) -> {
+            if (config.isSet(legacy)) {
+                plugin.getLogger().warning("config.yml: '" + legacy + "' is deprecated, use '" + replacement + "' instead");
+            }
+        });
+    }
+
+    public ConfigSnapshot getSnapshot() {
+        return snapshot;
     }
 
     public String getApiKey() {
@@ -55,10 +79,143 @@ public class ConfigManager {
         return config.getInt("api.circuit-breaker.reset-seconds", 60);
     }
 
+    public double getCircuitBreakerFailureRate() {
+        return Math.max(0.0, Math.min(1.0, config.getDouble("api.circuit-breaker.failure-rate", 0.5)));
+    }
+
+    public int getCircuitBreakerWindowSeconds() {
+        return Math.max(1, config.getInt("api.circuit-breaker.window-seconds", 30));
+    }
+
+    public long getCircuitBreakerLatencyThresholdMs() {
+        return Math.max(0, config.getLong("api.circuit-breaker.latency-threshold-ms", 5000));
+    }
+
+    public int getCircuitBreakerHalfOpenProbes() {
+        return Math.max(1, config.getInt("api.circuit-breaker.half-open-probes", 3));
+    }
+
+    public boolean isApiBatchingEnabled() {
+        return config.getBoolean("api.batching.enabled", true);
+    }
+
+    public int getApiBatchingWindowMs() {
+        return Math.max(1, config.getInt("api.batching.window-ms", 20));
+    }
+
+    public int getApiBatchingMaxSize() {
+        return Math.max(1, config.getInt("api.batching.max-size", 32));
+    }
+
+    public int getApiBatchingMaxChars() {
+        return Math.max(1, config.getInt("api.batching.max-chars", 16000));
+    }
+
+    public boolean isApiHedgingEnabled() {
+        return config.getBoolean("api.hedging.enabled", false);
+    }
+
+    public double getApiHedgingPercentile() {
+        return Math.max(50.0, Math.min(99.9, config.getDouble("api.hedging.percentile", 95.0)));
+    }
+
+    public long getApiHedgingMinDelayMs() {
+        return Math.max(1, config.getLong("api.hedging.min-delay-ms", 100));
+    }
+
+    public double getApiHedgingBudgetPercent() {
+        return Math.max(0.0, Math.min(100.0, config.getDouble("api.hedging.budget-percent", 10.0)));
+    }
+
+    public String getApiHedgingBaseUrl() {
+        String secondary = config.getString("api.hedging.secondary-base-url", "");
+        return secondary == null || secondary.isBlank() ? getApiBaseUrl() : secondary;
+    }
+
+    public boolean isApiConcurrencyLimitEnabled() {
+        return config.getBoolean("api.concurrency.enabled", true);
+    }
+
+    public int getApiConcurrencyInitialLimit() {
+        return Math.max(1, config.getInt("api.concurrency.initial-limit", 16));
+    }
+
+    public int getApiConcurrencyMinLimit() {
+        return Math.max(1, config.getInt("api.concurrency.min-limit", 2));
+    }
+
+    public int getApiConcurrencyMaxLimit() {
+        return Math.max(1, config.getInt("api.concurrency.max-limit", 128));
+    }
+
+    public double getApiConcurrencyLatencyTolerance() {
+        return Math.max(1.0, config.getDouble("api.concurrency.latency-tolerance", 2.0));
+    }
+
+    public ShedPolicy getApiShedPolicy() {
+        return ShedPolicy.from(config.getString("api.concurrency.fallback", "allow"));
+    }
+
+    public boolean isLocalClassifierEnabled() {
+        return config.getBoolean("api.local-classifier.enabled", false);
+    }
+
+    public boolean isLocalClassifierShadow() {
+        return config.getBoolean("api.local-classifier.shadow", true);
+    }
+
+    public double getLocalClassifierCleanBelow() {
+        return Math.max(0.0, Math.min(1.0, config.getDouble("api.local-classifier.clean-below", 0.05)));
+    }
+
+    public boolean isLocalClassifierCollectSamples() {
+        return config.getBoolean("api.local-classifier.collect-samples", false);
+    }
+
+    public double getLocalClassifierSampleRate() {
+        return Math.max(0.0, Math.min(1.0, config.getDouble("api.local-classifier.sample-rate", 0.1)));
+    }
+
+    public int getLocalClassifierMaxSamples() {
+        return Math.max(1000, config.getInt("api.local-classifier.max-samples", 50000));
+    }
+
+    public int getLocalClassifierFeatureBits() {
+        return Math.max(10, Math.min(24, config.getInt("api.local-classifier.feature-bits", 18)));
+    }
+
     public String getDatabaseType() {
         return config.getString("database.type", "sqlite");
     }
 
+    public boolean isWriteBehindEnabled() {
+        return config.getBoolean("database.write-behind.enabled", true);
+    }
+
+    public int getWriteBehindBatchSize() {
+        return Math.max(1, config.getInt("database.write-behind.batch-size", 100));
+    }
+
+    public long getWriteBehindFlushIntervalMs() {
+        return Math.max(10, config.getLong("database.write-behind.flush-interval-ms", 500));
+    }
+
+    public int getWriteBehindQueueSize() {
+        return Math.max(1, config.getInt("database.write-behind.queue-size", 10000));
+    }
+
+    public String getWriteBehindFullPolicy() {
+        return config.getString("database.write-behind.full-policy", "block");
+    }
+
+    public long getWriteBehindBlockTimeoutMs() {
+        return Math.max(0, config.getLong("database.write-behind.block-timeout-ms", 1000));
+    }
+
+    public int getLedgerFlushSeconds() {
+        return Math.max(1, config.getInt("database.write-behind.ledger-flush-seconds", 5));
+    }
+
     public String getDatabaseHost() {
         return config.getString("database.host", "localhost");
     }
@@ -95,48 +252,85 @@ public class ConfigManager {
         return config.getInt("database.max-lifetime", 1800000);
     }
 
+    public boolean isDatabaseCircuitBreakerEnabled() {
+        return config.getBoolean("database.circuit-breaker.enabled", true);
+    }
+
+    public int getDatabaseCircuitBreakerFailureThreshold() {
+        return Math.max(1, config.getInt("database.circuit-breaker.failure-threshold", 5));
+    }
+
+    public double getDatabaseCircuitBreakerFailureRate() {
+        return Math.max(0.0, Math.min(1.0, config.getDouble("database.circuit-breaker.failure-rate", 0.5)));
+    }
+
+    public int getDatabaseCircuitBreakerWindowSeconds() {
+        return Math.max(1, config.getInt("database.circuit-breaker.window-seconds", 30));
+    }
+
+    public int getDatabaseCircuitBreakerResetSeconds() {
+        return Math.max(1, config.getInt("database.circuit-breaker.reset-seconds", 10));
+    }
+
+    public int getDatabaseCircuitBreakerHalfOpenProbes() {
+        return Math.max(1, config.getInt("database.circuit-breaker.half-open-probes", 3));
+    }
+
     public boolean isCacheEnabled() {
         return config.getBoolean("cache.enabled", true);
     }
 
-    public int getCacheExpireMinutes() {
-        return config.getInt("cache.expire-minutes", 30);
+    public int getCleanCacheExpireMinutes() {
+        return config.getInt("cache.clean.expire-minutes", config.getInt("cache.expire-minutes", 240));
+    }
+
+    public int getCleanCacheMaxMemoryKb() {
+        int legacy = config.getInt("cache.max-memory-kb", config.getInt("cache.max-size", 768));
+        return Math.max(16, config.getInt("cache.clean.max-memory-kb", legacy));
+    }
+
+    public int getFlaggedCacheExpireMinutes() {
+        return config.getInt("cache.flagged.expire-minutes", 10);
+    }
+
+    public int getFlaggedCacheMaxMemoryKb() {
+        return Math.max(16, config.getInt("cache.flagged.max-memory-kb", 256));
     }
 
-    public int getCacheMaxSize() {
-        return config.getInt("cache.max-size", 1000);
+    public boolean isCacheDoorkeeperEnabled() {
+        return config.getBoolean("cache.doorkeeper", false);
+    }
+
+    public boolean isPersistentCacheEnabled() {
+        return config.getBoolean("cache.persistent.enabled", false);
+    }
+
+    public int getPersistentCacheWarmLimit() {
+        return Math.max(0, config.getInt("cache.persistent.warm-limit", 5000));
+    }
+
+    public int getPersistentCacheMaxAgeDays() {
+        return Math.max(1, config.getInt("cache.persistent.max-age-days", 30));
     }
 
     public Map<Integer, String> getEscalationPunishments() {
-        Map<Integer, String> map = new HashMap<>();
-        if (config.getConfigurationSection("punishments.escalation") != null) {
-            for (String key : config.getConfigurationSection("punishments.escalation").getKeys(false)) {
-                try {
-                    int threshold = Integer.parseInt(key);
-                    String punishment = config.getString("punishments.escalation." + key);
-                    map.put(threshold, punishment);
-                } catch (NumberFormatException ignored) {}
-            }
-        }
-        return map;
+        return snapshot.escalation();
     }
 
     public Map<String, Integer> getCategoryWeights() {
         Map<String, Integer> map = new HashMap<>();
-        if (config.getConfigurationSection("punishments.category-weights") != null) {
-            for (String key : config.getConfigurationSection("punishments.category-weights").getKeys(false)) {
-                map.put(key, config.getInt("punishments.category-weights." + key, 1));
-            }
+        for (long mask = snapshot.configuredCategories(); mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            map.put(CategoryRegistry.nameOf(id), snapshot.weightFor(id));
         }
         return map;
     }
 
     public Map<String, Double> getCategoryThresholds() {
         Map<String, Double> map = new HashMap<>();
-        if (config.getConfigurationSection("punishments.category-thresholds") != null) {
-            for (String key : config.getConfigurationSection("punishments.category-thresholds").getKeys(false)) {
-                map.put(key, config.getDouble("punishments.category-thresholds." + key, 0.5));
-            }
+        for (long mask = snapshot.configuredCategories(); mask != 0; mask &= mask - 1) {
+            int id = Long.numberOfTrailingZeros(mask);
+            map.put(CategoryRegistry.nameOf(id), snapshot.thresholdFor(id));
         }
         return map;
     }
@@ -146,7 +340,7 @@ public class ConfigManager {
     }
 
     public List<String> getEnabledCategories() {
-        return config.getStringList("categories.enabled");
+        return snapshot.enabledCategoryNames();
     }
 
     public boolean isBlacklistEnabled() {
@@ -154,7 +348,7 @@ public class ConfigManager {
     }
 
     public List<String> getBlacklistedWords() {
-        return config.getStringList("blacklist.words");
+        return snapshot.blacklistedWords();
     }
 
     public boolean isAntiSpamEnabled() {
@@ -181,6 +375,10 @@ public class ConfigManager {
         return config.getInt("filters.anti-flood.timeframe-seconds", 3);
     }
 
+    public boolean isFilterAdaptiveOrderEnabled() {
+        return config.getBoolean("filters.adaptive-order", true);
+    }
+
     public boolean isCapsLockEnabled() {
         return config.getBoolean("filters.caps-lock.enabled", true);
     }
@@ -217,6 +415,14 @@ public class ConfigManager {
         return config.getString("notifications.staff-permission", "loraguard.notify");
     }
 
+    public boolean isStaffDigestEnabled() {
+        return config.getBoolean("notifications.digest.enabled", false);
+    }
+
+    public int getStaffDigestTicks() {
+        return Math.max(1, Math.min(200, config.getInt("notifications.digest.ticks", 1)));
+    }
+
     public String getAlertSound() {
         return config.getString("notifications.sound", "ENTITY_EXPERIENCE_ORB_PICKUP");
     }
@@ -233,6 +439,22 @@ public class ConfigManager {
         return config.getString("notifications.discord.embed-color", "#FF0000");
     }
 
+    public long getDiscordTimeoutMs() {
+        return Math.max(1000, config.getLong("notifications.discord.timeout-ms", 10000));
+    }
+
+    public int getDiscordMaxConcurrent() {
+        return Math.max(1, config.getInt("notifications.discord.max-concurrent", 2));
+    }
+
+    public int getDiscordMaxQueued() {
+        return Math.max(1, config.getInt("notifications.discord.max-queued", 100));
+    }
+
+    public int getDiscordCollapseAfter() {
+        return Math.max(0, config.getInt("notifications.discord.collapse-after", 20));
+    }
+
     public boolean isWhitelistEnabled() {
         return config.getBoolean("whitelist.enabled", true);
     }
@@ -362,6 +584,14 @@ public class ConfigManager {
         return config.getInt("punishments.warning-decay.check-minutes", 60);
     }
 
+    public int getViolationPipelineThreads() {
+        return Math.max(1, config.getInt("punishments.pipeline.threads", 2));
+    }
+
+    public int getViolationPipelineQueueSize() {
+        return Math.max(1, config.getInt("punishments.pipeline.queue-size", 1000));
+    }
+
     public boolean isPassthroughModeEnabled() {
         return config.getBoolean("punishments.passthrough-mode", false);
     }
@@ -391,8 +621,7 @@ public class ConfigManager {
     }
 
     public String getCategoryDisplayName(String category) {
-        String displayName = config.getString("categories.display-names." + category);
-        return displayName != null ? displayName : category;
+        return snapshot.displayNameFor(category);
     }
 
     public Map<String, String> getCategoryDisplayNames() {
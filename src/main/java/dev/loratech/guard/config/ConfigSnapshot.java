@@ -0,0 +1,161 @@
+package dev.loratech.guard.config;
+
+import dev.loratech.guard.api.CategoryRegistry;
+import dev.loratech.guard.api.ScoreVector;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.FileConfiguration;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+public final class ConfigSnapshot {
+
+    private final double apiThreshold;
+    private final long configuredCategories;
+    private final long enabledCategories;
+    private final double[] categoryThresholds;
+    private final int[] categoryWeights;
+    private final String[] categoryDisplayNames;
+    private final List<String> enabledCategoryNames;
+    private final NavigableMap<Integer, String> escalation;
+    private final List<String> blacklistedWords;
+
+    private ConfigSnapshot(double apiThreshold, long configuredCategories, long enabledCategories,
+                           double[] categoryThresholds, int[] categoryWeights, String[] categoryDisplayNames,
+                           List<String> enabledCategoryNames, NavigableMap<Integer, String> escalation,
+                           List<String> blacklistedWords) {
+        this.apiThreshold = apiThreshold;
+        this.configuredCategories = configuredCategories;
+        this.enabledCategories = enabledCategories;
+        this.categoryThresholds = categoryThresholds;
+        this.categoryWeights = categoryWeights;
+        this.categoryDisplayNames = categoryDisplayNames;
+        this.enabledCategoryNames = enabledCategoryNames;
+        this.escalation = escalation;
+        this.blacklistedWords = blacklistedWords;
+    }
+
+    public static ConfigSnapshot load(FileConfiguration config) {
+        double apiThreshold = config.getDouble("api.threshold", 0.5);
+        List<String> enabled = List.copyOf(config.getStringList("categories.enabled"));
+
+        Set<String> names = new LinkedHashSet<>(enabled);
+        names.addAll(keys(config, "punishments.category-thresholds"));
+        names.addAll(keys(config, "punishments.category-weights"));
+        names.addAll(keys(config, "categories.display-names"));
+
+        long configuredMask = 0;
+        long enabledMask = 0;
+        double[] thresholds = new double[CategoryRegistry.MAX_CATEGORIES];
+        int[] weights = new int[CategoryRegistry.MAX_CATEGORIES];
+        String[] displayNames = new String[CategoryRegistry.MAX_CATEGORIES];
+        Arrays.fill(thresholds, apiThreshold);
+        Arrays.fill(weights, 1);
+
+        for (String name : names) {
+            int id = CategoryRegistry.intern(name);
+            if (id < 0) continue;
+            configuredMask |= 1L << id;
+            if (enabled.contains(name)) {
+                enabledMask |= 1L << id;
+            }
+            thresholds[id] = config.getDouble("punishments.category-thresholds." + name, apiThreshold);
+            weights[id] = config.getInt("punishments.category-weights." + name, 1);
+            displayNames[id] = config.getString("categories.display-names." + name);
+        }
+
+        NavigableMap<Integer, String> escalation = new TreeMap<>();
+        ConfigurationSection section = config.getConfigurationSection("punishments.escalation");
+        if (section != null) {
+            for (String key : section.getKeys(false)) {
+                try {
+                    escalation.put(Integer.parseInt(key), section.getString(key));
+                } catch (NumberFormatException ignored) {}
+            }
+        }
+
+        return new ConfigSnapshot(
+            apiThreshold,
+            configuredMask,
+            enabledMask,
+            thresholds,
+            weights,
+            displayNames,
+            enabled,
+            Collections.unmodifiableNavigableMap(escalation),
+            List.copyOf(config.getStringList("blacklist.words"))
+        );
+    }
+
+    private static Set<String> keys(FileConfiguration config, String path) {
+        ConfigurationSection section = config.getConfigurationSection(path);
+        return section != null ? section.getKeys(false) : Set.of();
+    }
+
+    public double apiThreshold() {
+        return apiThreshold;
+    }
+
+    public long configuredCategories() {
+        return configuredCategories;
+    }
+
+    public long enabledCategories() {
+        return enabledCategories;
+    }
+
+    public List<String> enabledCategoryNames() {
+        return enabledCategoryNames;
+    }
+
+    public NavigableMap<Integer, String> escalation() {
+        return escalation;
+    }
+
+    public List<String> blacklistedWords() {
+        return blacklistedWords;
+    }
+
+    public boolean isCategoryEnabled(String category) {
+        int id = CategoryRegistry.idOf(category);
+        return id >= 0 && (enabledCategories & (1L << id)) != 0;
+    }
+
+    public double thresholdFor(int category) {
+        return category >= 0 ? categoryThresholds[category] : apiThreshold;
+    }
+
+    public double thresholdFor(String category) {
+        return thresholdFor(CategoryRegistry.idOf(category));
+    }
+
+    public int weightFor(int category) {
+        return category >= 0 ? categoryWeights[category] : 1;
+    }
+
+    public String displayNameFor(int category) {
+        if (category < 0) return "unknown";
+        String displayName = categoryDisplayNames[category];
+        return displayName != null ? displayName : CategoryRegistry.nameOf(category);
+    }
+
+    public String displayNameFor(String category) {
+        int id = CategoryRegistry.idOf(category);
+        return id >= 0 && categoryDisplayNames[id] != null ? categoryDisplayNames[id] : category;
+    }
+
+    public int bestCategory(ScoreVector scores) {
+        return scores.best(enabledCategories, categoryThresholds);
+    }
+
+    public String punishmentFor(int points) {
+        Map.Entry<Integer, String> entry = escalation.floorEntry(points);
+        return entry != null ? entry.getValue() : null;
+    }
+}
@@ -0,0 +1,241 @@
+package dev.loratech.guard.database;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+public class BatchWriter {
+
+    private static final long DROP_WARNING_INTERVAL_MS = 10000;
+    private static final long MIN_RETRY_DELAY_MS = 500;
+    private static final long MAX_RETRY_DELAY_MS = 30000;
+
+    private final LoraGuard plugin;
+    private final DatabaseManager database;
+    private final BlockingQueue<PendingWrite> queue;
+    private final int batchSize;
+    private final long flushIntervalMs;
+    private final boolean blockWhenFull;
+    private final long blockTimeoutMs;
+    private final AtomicLong dropped = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final Thread thread;
+    private volatile boolean running = true;
+    private volatile long lastDropWarning = 0;
+    private long lastRetryWarning = 0;
+
+    public BatchWriter(LoraGuard plugin, DatabaseManager database) {
+        this.plugin = plugin;
+        this.database = database;
+        this.queue = new ArrayBlockingQueue<>(plugin.getConfigManager().getWriteBehindQueueSize());
+        this.batchSize = plugin.getConfigManager().getWriteBehindBatchSize();
+        this.flushIntervalMs = plugin.getConfigManager().getWriteBehindFlushIntervalMs();
+        this.blockWhenFull = "block".equalsIgnoreCase(plugin.getConfigManager().getWriteBehindFullPolicy());
+        this.blockTimeoutMs = plugin.getConfigManager().getWriteBehindBlockTimeoutMs();
+        this.thread = new Thread(this::run, "LoraGuard-DbWriter");
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    public void enqueue(PendingWrite write) {
+        boolean accepted;
+        if (blockWhenFull) {
+            try {
+                accepted = queue.offer(write, blockTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                accepted = false;
+            }
+        } else {
+            accepted = queue.offer(write);
+        }
+
+        if (!accepted) {
+            dropped.incrementAndGet();
+            long now = System.currentTimeMillis();
+            if (now - lastDropWarning > DROP_WARNING_INTERVAL_MS) {
+                lastDropWarning = now;
+                plugin.getLogger().warning("Database write queue is full, dropping writes. Dropped so far: " + dropped.get());
+            }
+        }
+    }
+
+    private void run() {
+        List<PendingWrite> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                PendingWrite first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                if (first == null) continue;
+                batch.add(first);
+
+                long deadline = System.currentTimeMillis() + flushIntervalMs;
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.currentTimeMillis();
+                    if (remaining <= 0 || !running) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        break;
+                    }
+                    PendingWrite next = queue.poll(remaining, TimeUnit.MILLISECONDS);
+                    if (next == null) break;
+                    batch.add(next);
+                }
+            } catch (InterruptedException e) {
+                running = false;
+                Thread.currentThread().interrupt();
+                queue.drainTo(batch, batchSize - batch.size());
+            }
+
+            if (!batch.isEmpty()) {
+                execute(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private void execute(List<PendingWrite> writes) {
+        List<PendingWrite> remaining = new ArrayList<>(writes);
+        boolean rowByRow = false;
+        long backoffMs = MIN_RETRY_DELAY_MS;
+
+        while (!remaining.isEmpty()) {
+            try {
+                if (rowByRow) {
+                    writeRows(remaining);
+                } else {
+                    writeBatch(remaining);
+                    remaining.clear();
+                }
+            } catch (SQLException e) {
+                if (DatabaseManager.isRetryable(e)) {
+                    database.recordFailure(e);
+                    warnRetry(remaining.size(), backoffMs, e);
+                    if (!sleep(backoffMs)) {
+                        plugin.getLogger().warning("Database writer interrupted, " + remaining.size() + " writes left unflushed");
+                        return;
+                    }
+                    backoffMs = Math.min(MAX_RETRY_DELAY_MS, backoffMs * 2);
+                } else if (!rowByRow) {
+                    plugin.getLogger().log(Level.WARNING, "Batch of " + remaining.size() + " rows failed, retrying row by row", e);
+                    rowByRow = true;
+                } else {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to write batch of " + remaining.size() + " rows", e);
+                    database.captureDbError(e, "BatchWriter.execute");
+                    return;
+                }
+            }
+        }
+    }
+
+    private void writeBatch(List<PendingWrite> writes) throws SQLException {
+        try (Connection conn = database.getConnection()) {
+            writeBatch(conn, writes);
+        }
+    }
+
+    static void writeBatch(Connection conn, List<PendingWrite> writes) throws SQLException {
+        Map<String, List<PendingWrite>> bySql = new LinkedHashMap<>();
+        for (PendingWrite write : writes) {
+            bySql.computeIfAbsent(write.sql(), k -> new ArrayList<>()).add(write);
+        }
+
+        conn.setAutoCommit(false);
+        try {
+            for (Map.Entry<String, List<PendingWrite>> entry : bySql.entrySet()) {
+                try (PreparedStatement stmt = conn.prepareStatement(entry.getKey())) {
+                    for (PendingWrite write : entry.getValue()) {
+                        write.bind(stmt);
+                        stmt.addBatch();
+                    }
+                    stmt.executeBatch();
+                }
+            }
+            conn.commit();
+        } catch (SQLException e) {
+            conn.rollback();
+            throw e;
+        } finally {
+            conn.setAutoCommit(true);
+        }
+    }
+
+    private void writeRows(List<PendingWrite> writes) throws SQLException {
+        try (Connection conn = database.getConnection()) {
+            Iterator<PendingWrite> iterator = writes.iterator();
+            while (iterator.hasNext()) {
+                PendingWrite write = iterator.next();
+                try (PreparedStatement stmt = conn.prepareStatement(write.sql())) {
+                    write.bind(stmt);
+                    stmt.executeUpdate();
+                } catch (SQLException e) {
+                    if (DatabaseManager.isRetryable(e)) throw e;
+                    rejected.incrementAndGet();
+                    plugin.getLogger().log(Level.SEVERE, "Discarding database write rejected by the server", e);
+                    database.captureDbError(e, "BatchWriter.writeRow");
+                }
+                iterator.remove();
+            }
+        }
+    }
+
+    private void warnRetry(int rows, long backoffMs, SQLException e) {
+        long now = System.currentTimeMillis();
+        if (now - lastRetryWarning > DROP_WARNING_INTERVAL_MS) {
+            lastRetryWarning = now;
+            plugin.getLogger().warning("Database unavailable (" + e.getMessage() + "), keeping " + rows
+                + " writes and retrying in " + backoffMs + "ms");
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public long getRejectedCount() {
+        return rejected.get();
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            thread.join(10000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (thread.isAlive()) {
+            thread.interrupt();
+            plugin.getLogger().warning("Database writer did not finish in time, " + queue.size() + " writes left unflushed");
+        }
+    }
+
+    public interface PendingWrite {
+        String sql();
+
+        void bind(PreparedStatement stmt) throws SQLException;
+    }
+}
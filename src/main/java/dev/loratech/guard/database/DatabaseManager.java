@@ -3,18 +3,29 @@ package dev.loratech.guard.database;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.ScoreVector;
 import dev.loratech.guard.appeal.Appeal;
+import dev.loratech.guard.cache.MessageCache;
+import dev.loratech.guard.cache.MessageKey;
 import dev.loratech.guard.cache.PunishmentCache;
+import dev.loratech.guard.cache.ViolationLedger;
+import dev.loratech.guard.util.CircuitBreaker;
 
 import java.io.File;
 import java.sql.Connection;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.sql.SQLNonTransientConnectionException;
+import java.sql.SQLRecoverableException;
+import java.sql.SQLTransientConnectionException;
+import java.sql.SQLTransientException;
 import java.sql.Statement;
 import java.sql.Timestamp;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 import java.util.logging.Level;
 
@@ -22,12 +33,33 @@ public class DatabaseManager {
 
     private final LoraGuard plugin;
     private HikariDataSource dataSource;
-    private boolean isCircuitBreakerOpen = false;
+    private volatile CircuitBreaker breaker;
+    private BatchWriter writer;
 
     public DatabaseManager(LoraGuard plugin) {
         this.plugin = plugin;
+        this.breaker = createBreaker();
         connect();
         createTables();
+        if (plugin.getConfigManager().isWriteBehindEnabled()) {
+            writer = new BatchWriter(plugin, this);
+        }
+    }
+
+    public void reload() {
+        breaker = createBreaker();
+    }
+
+    private CircuitBreaker createBreaker() {
+        if (!plugin.getConfigManager().isDatabaseCircuitBreakerEnabled()) return null;
+        return new CircuitBreaker(new CircuitBreaker.Settings(
+            plugin.getConfigManager().getDatabaseCircuitBreakerFailureThreshold(),
+            plugin.getConfigManager().getDatabaseCircuitBreakerFailureRate(),
+            plugin.getConfigManager().getDatabaseCircuitBreakerWindowSeconds() * 1000L,
+            0,
+            plugin.getConfigManager().getDatabaseCircuitBreakerResetSeconds() * 1000L,
+            plugin.getConfigManager().getDatabaseCircuitBreakerHalfOpenProbes()
+        ));
     }
 
     private void connect() {
@@ -82,7 +114,38 @@ public class DatabaseManager {
         if (dataSource == null || dataSource.isClosed()) {
             throw new SQLException("Database connection is not available");
         }
-        return dataSource.getConnection();
+        CircuitBreaker circuit = breaker;
+        if (circuit == null) {
+            return dataSource.getConnection();
+        }
+        if (!circuit.allowRequest()) {
+            throw new UnavailableException("Database circuit breaker is " + circuit.getState(), null);
+        }
+
+        long start = System.currentTimeMillis();
+        try {
+            Connection connection = dataSource.getConnection();
+            circuit.onSuccess(System.currentTimeMillis() - start);
+            return connection;
+        } catch (SQLException e) {
+            recordFailure(circuit, System.currentTimeMillis() - start);
+            throw new UnavailableException(e.getMessage(), e);
+        }
+    }
+
+    private void recordFailure(CircuitBreaker circuit, long latencyMs) {
+        long trips = circuit.getTrips();
+        circuit.onFailure(latencyMs);
+        if (circuit.getTrips() != trips) {
+            plugin.getLogger().severe("Database circuit breaker opened! Connection lost.");
+        }
+    }
+
+    void recordFailure(SQLException e) {
+        CircuitBreaker circuit = breaker;
+        if (circuit != null && !(e instanceof UnavailableException) && isRetryable(e)) {
+            recordFailure(circuit, 0);
+        }
     }
 
     private boolean isMySQL() {
@@ -148,6 +211,23 @@ public class DatabaseManager {
                 "created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP, " +
                 "reviewed_at TIMESTAMP)";
 
+        String verdictCacheTable = "CREATE TABLE IF NOT EXISTS verdict_cache (" +
+                "hash BIGINT PRIMARY KEY, " +
+                "hash_lo BIGINT DEFAULT 0, " +
+                "flagged BOOLEAN NOT NULL, " +
+                "category VARCHAR(64), " +
+                "score DOUBLE NOT NULL, " +
+                "scores TEXT, " +
+                "model VARCHAR(64) NOT NULL, " +
+                "threshold DOUBLE NOT NULL, " +
+                "updated_at BIGINT NOT NULL)";
+
+        String classifierSamplesTable = "CREATE TABLE IF NOT EXISTS classifier_samples (" +
+                "id INTEGER PRIMARY KEY " + autoIncrement + ", " +
+                "message TEXT NOT NULL, " +
+                "flagged BOOLEAN NOT NULL, " +
+                "created_at BIGINT NOT NULL)";
+
         try (Connection conn = getConnection();
              Statement stmt = conn.createStatement()) {
             stmt.execute(violationsTable);
@@ -155,6 +235,8 @@ public class DatabaseManager {
             stmt.execute(playerDataTable);
             stmt.execute(appealsTable);
             stmt.execute(reportsTable);
+            stmt.execute(verdictCacheTable);
+            stmt.execute(classifierSamplesTable);
             
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_violations_uuid ON violations(uuid)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_violations_timestamp ON violations(timestamp)");
@@ -164,6 +246,7 @@ public class DatabaseManager {
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_appeals_status ON appeals(status)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_reports_status ON reports(status)");
             stmt.execute("CREATE INDEX IF NOT EXISTS idx_reports_reported ON reports(reported_uuid)");
+            stmt.execute("CREATE INDEX IF NOT EXISTS idx_verdict_cache_updated ON verdict_cache(updated_at)");
             
             try {
                 stmt.execute("ALTER TABLE appeals ADD COLUMN original_message TEXT");
@@ -171,20 +254,37 @@ public class DatabaseManager {
             try {
                 stmt.execute("ALTER TABLE punishments ADD COLUMN original_message TEXT");
             } catch (SQLException ignored) {}
+            try {
+                stmt.execute("ALTER TABLE player_data ADD COLUMN last_violation_at BIGINT DEFAULT 0");
+            } catch (SQLException ignored) {}
+            try {
+                stmt.execute("ALTER TABLE player_data ADD COLUMN points_synced_at BIGINT DEFAULT 0");
+            } catch (SQLException ignored) {}
+            try {
+                stmt.execute("ALTER TABLE verdict_cache ADD COLUMN hash_lo BIGINT DEFAULT 0");
+            } catch (SQLException ignored) {}
+            try {
+                stmt.execute("ALTER TABLE verdict_cache ADD COLUMN scores TEXT");
+            } catch (SQLException ignored) {}
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to create database tables", e);
             captureDbError(e, "createTables");
         }
     }
 
-    private void captureDbError(SQLException e, String context) {
-        if (isCircuitBreakerOpen) return;
-        
-        if (e.getSQLState() != null && e.getSQLState().startsWith("08")) {
-            isCircuitBreakerOpen = true;
-            plugin.getLogger().severe("Database circuit breaker opened! Connection lost.");
-            org.bukkit.Bukkit.getScheduler().runTaskLaterAsynchronously(plugin, () -> isCircuitBreakerOpen = false, 6000L);
+    static boolean isRetryable(SQLException e) {
+        if (e instanceof SQLTransientException || e instanceof SQLRecoverableException
+            || e instanceof SQLNonTransientConnectionException) {
+            return true;
         }
+        String state = e.getSQLState();
+        return state != null && state.startsWith("08");
+    }
+
+    void captureDbError(SQLException e, String context) {
+        recordFailure(e);
+        CircuitBreaker circuit = breaker;
+        if (circuit != null && circuit.isOpen()) return;
 
         if (plugin.getTelemetryManager() != null) {
             try {
@@ -195,104 +295,124 @@ public class DatabaseManager {
         }
     }
 
-    public void logViolation(UUID uuid, String playerName, String message, String category, double score, String action) {
-        String sql = "INSERT INTO violations (uuid, player_name, message, category, score, action) VALUES (?, ?, ?, ?, ?, ?)";
+    private void write(BatchWriter.PendingWrite write) {
+        if (writer != null) {
+            writer.enqueue(write);
+            return;
+        }
         try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, uuid.toString());
-            stmt.setString(2, playerName);
-            stmt.setString(3, message);
-            stmt.setString(4, category);
-            stmt.setDouble(5, score);
-            stmt.setString(6, action);
+             PreparedStatement stmt = conn.prepareStatement(write.sql())) {
+            write.bind(stmt);
             stmt.executeUpdate();
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to log violation", e);
-            captureDbError(e, "logViolation");
+            plugin.getLogger().log(Level.SEVERE, "Failed to write to database", e);
+            captureDbError(e, "write");
         }
     }
 
-    public int logViolationAndGetId(UUID uuid, String playerName, String message, String category, double score) {
-        String sql = "INSERT INTO violations (uuid, player_name, message, category, score, action) VALUES (?, ?, ?, ?, ?, ?)";
+    public void logViolation(UUID uuid, String playerName, String message, String category, double score, String action) {
+        write(new ViolationWrite(uuid, playerName, message, category, score, action));
+    }
+
+    public ViolationLedger.Entry loadLedgerEntry(UUID uuid) throws SQLException {
+        String sql = "SELECT player_name, violation_points, total_violations, last_violation, last_violation_at, points_synced_at FROM player_data WHERE uuid = ?";
         try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
             stmt.setString(1, uuid.toString());
-            stmt.setString(2, playerName);
-            stmt.setString(3, message);
-            stmt.setString(4, category);
-            stmt.setDouble(5, score);
-            stmt.setString(6, "pending");
-            stmt.executeUpdate();
-            ResultSet rs = stmt.getGeneratedKeys();
+            ResultSet rs = stmt.executeQuery();
             if (rs.next()) {
-                return rs.getInt(1);
+                long lastViolation = rs.getLong("last_violation_at");
+                if (lastViolation <= 0) {
+                    lastViolation = readLegacyTimestamp(rs, "last_violation");
+                }
+                long syncedAt = rs.getLong("points_synced_at");
+                if (syncedAt <= 0) {
+                    syncedAt = System.currentTimeMillis();
+                }
+                return new ViolationLedger.Entry(
+                    rs.getString("player_name"),
+                    rs.getInt("violation_points"),
+                    rs.getInt("total_violations"),
+                    lastViolation,
+                    syncedAt,
+                    true
+                );
             }
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to log violation and get id", e);
+            plugin.getLogger().log(Level.SEVERE, "Failed to load violation points", e);
+            captureDbError(e, "loadLedgerEntry");
+            throw e;
         }
-        return -1;
+        return null;
     }
 
-    public void updateViolationAction(int violationId, String action) {
-        String sql = "UPDATE violations SET action = ? WHERE id = ?";
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, action);
-            stmt.setInt(2, violationId);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to update violation action", e);
+    private long readLegacyTimestamp(ResultSet rs, String column) throws SQLException {
+        if (isMySQL()) {
+            Timestamp timestamp = rs.getTimestamp(column);
+            return timestamp != null ? timestamp.getTime() : 0;
+        }
+        String value = rs.getString(column);
+        if (value == null || value.isEmpty()) return 0;
+        try {
+            return java.time.LocalDateTime.parse(value.replace(' ', 'T'))
+                .toInstant(java.time.ZoneOffset.UTC).toEpochMilli();
+        } catch (java.time.format.DateTimeParseException e) {
+            return 0;
         }
     }
 
-    public void addViolationPoints(UUID uuid, String playerName, int points) {
+    public boolean saveLedgerEntries(Map<UUID, ViolationLedger.Entry> entries) {
         String sql;
         if (isMySQL()) {
-            sql = "INSERT INTO player_data (uuid, player_name, violation_points, total_violations, last_violation) " +
-                  "VALUES (?, ?, ?, 1, NOW()) " +
+            sql = "INSERT INTO player_data (uuid, player_name, violation_points, total_violations, last_violation, last_violation_at, points_synced_at) " +
+                  "VALUES (?, ?, ?, ?, FROM_UNIXTIME(? / 1000), ?, ?) " +
                   "ON DUPLICATE KEY UPDATE " +
                   "player_name = VALUES(player_name), " +
-                  "violation_points = violation_points + VALUES(violation_points), " +
-                  "total_violations = total_violations + 1, " +
-                  "last_violation = NOW()";
+                  "violation_points = VALUES(violation_points), " +
+                  "total_violations = VALUES(total_violations), " +
+                  "last_violation = VALUES(last_violation), " +
+                  "last_violation_at = VALUES(last_violation_at), " +
+                  "points_synced_at = VALUES(points_synced_at)";
         } else {
-            sql = "INSERT INTO player_data (uuid, player_name, violation_points, total_violations, last_violation) " +
-                  "VALUES (?, ?, ?, 1, datetime('now')) " +
+            sql = "INSERT INTO player_data (uuid, player_name, violation_points, total_violations, last_violation, last_violation_at, points_synced_at) " +
+                  "VALUES (?, ?, ?, ?, datetime(? / 1000, 'unixepoch'), ?, ?) " +
                   "ON CONFLICT(uuid) DO UPDATE SET " +
                   "player_name = excluded.player_name, " +
-                  "violation_points = violation_points + excluded.violation_points, " +
-                  "total_violations = total_violations + 1, " +
-                  "last_violation = datetime('now')";
+                  "violation_points = excluded.violation_points, " +
+                  "total_violations = excluded.total_violations, " +
+                  "last_violation = excluded.last_violation, " +
+                  "last_violation_at = excluded.last_violation_at, " +
+                  "points_synced_at = excluded.points_synced_at";
         }
-        
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, uuid.toString());
-            stmt.setString(2, playerName);
-            stmt.setInt(3, points);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to add violation points", e);
-        }
-    }
 
-    public int getViolationPoints(UUID uuid) {
-        String sql = "SELECT violation_points FROM player_data WHERE uuid = ?";
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, uuid.toString());
-            ResultSet rs = stmt.executeQuery();
-            if (rs.next()) {
-                return rs.getInt("violation_points");
+        try (Connection conn = getConnection()) {
+            conn.setAutoCommit(false);
+            try (PreparedStatement stmt = conn.prepareStatement(sql)) {
+                for (Map.Entry<UUID, ViolationLedger.Entry> entry : entries.entrySet()) {
+                    ViolationLedger.Entry value = entry.getValue();
+                    stmt.setString(1, entry.getKey().toString());
+                    stmt.setString(2, value.playerName());
+                    stmt.setInt(3, value.points());
+                    stmt.setInt(4, value.totalViolations());
+                    stmt.setLong(5, value.lastViolation());
+                    stmt.setLong(6, value.lastViolation());
+                    stmt.setLong(7, value.syncedAt());
+                    stmt.addBatch();
+                }
+                stmt.executeBatch();
+                conn.commit();
+            } catch (SQLException e) {
+                conn.rollback();
+                throw e;
+            } finally {
+                conn.setAutoCommit(true);
             }
+            return true;
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to get violation points", e);
+            plugin.getLogger().log(Level.SEVERE, "Failed to save violation points", e);
+            captureDbError(e, "saveLedgerEntries");
+            return false;
         }
-        return 0;
-    }
-
-    public int getPlayerViolationPoints(UUID uuid) {
-        return getViolationPoints(uuid);
     }
 
     public int getTotalViolations() {
@@ -305,6 +425,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get total violations", e);
+            captureDbError(e, "getTotalViolations");
         }
         return 0;
     }
@@ -324,6 +445,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get today violations", e);
+            captureDbError(e, "getTodayViolations");
         }
         return 0;
     }
@@ -336,6 +458,7 @@ public class DatabaseManager {
             stmt.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to clear player history", e);
+            captureDbError(e, "clearPlayerHistory");
         }
     }
 
@@ -347,22 +470,82 @@ public class DatabaseManager {
             stmt.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to reset violation points", e);
+            captureDbError(e, "resetViolationPoints");
         }
     }
 
-    public void addPunishment(UUID uuid, String playerName, String type, String reason, int duration) {
-        String sql = "INSERT INTO punishments (uuid, player_name, type, reason, duration) VALUES (?, ?, ?, ?, ?)";
+    public void saveVerdict(MessageKey key, MessageCache.CachedResult result, String model, double threshold) {
+        write(new VerdictWrite(isMySQL(), key, result, model, threshold, System.currentTimeMillis()));
+    }
+
+    public Map<MessageKey, MessageCache.CachedResult> loadVerdicts(String model, double threshold, int limit) {
+        Map<MessageKey, MessageCache.CachedResult> verdicts = new HashMap<>();
+        String sql = "SELECT hash, hash_lo, flagged, category, score, scores FROM verdict_cache " +
+                     "WHERE model = ? AND threshold = ? AND hash_lo <> 0 ORDER BY updated_at DESC LIMIT ?";
         try (Connection conn = getConnection();
              PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, uuid.toString());
-            stmt.setString(2, playerName);
-            stmt.setString(3, type);
-            stmt.setString(4, reason);
-            stmt.setInt(5, duration);
-            stmt.executeUpdate();
+            stmt.setString(1, model);
+            stmt.setDouble(2, threshold);
+            stmt.setInt(3, limit);
+            ResultSet rs = stmt.executeQuery();
+            while (rs.next()) {
+                verdicts.put(new MessageKey(rs.getLong("hash"), rs.getLong("hash_lo")), new MessageCache.CachedResult(
+                    rs.getBoolean("flagged"),
+                    rs.getString("category"),
+                    rs.getDouble("score"),
+                    decodeStoredScores(rs.getString("scores"), rs.getString("category"), rs.getDouble("score"))
+                ));
+            }
         } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to add punishment", e);
+            plugin.getLogger().log(Level.SEVERE, "Failed to load cached verdicts", e);
+            captureDbError(e, "loadVerdicts");
+        }
+        return verdicts;
+    }
+
+    private ScoreVector decodeStoredScores(String encoded, String category, double score) {
+        ScoreVector scores = ScoreVector.decode(encoded);
+        if (scores.isEmpty() && category != null) {
+            return ScoreVector.of(category, score);
         }
+        return scores;
+    }
+
+    public int pruneVerdicts(String model, double threshold, long olderThan) {
+        String sql = "DELETE FROM verdict_cache WHERE model <> ? OR threshold <> ? OR updated_at < ?";
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setString(1, model);
+            stmt.setDouble(2, threshold);
+            stmt.setLong(3, olderThan);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to prune cached verdicts", e);
+            captureDbError(e, "pruneVerdicts");
+        }
+        return 0;
+    }
+
+    public void saveClassifierSample(String message, boolean flagged) {
+        write(new ClassifierSampleWrite(message, flagged, System.currentTimeMillis()));
+    }
+
+    public int pruneClassifierSamples(int keep) {
+        String sql = "DELETE FROM classifier_samples WHERE id <= " +
+                     "(SELECT cutoff FROM (SELECT MAX(id) - ? AS cutoff FROM classifier_samples) latest)";
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql)) {
+            stmt.setInt(1, keep);
+            return stmt.executeUpdate();
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to prune classifier samples", e);
+            captureDbError(e, "pruneClassifierSamples");
+        }
+        return 0;
+    }
+
+    public void addPunishment(UUID uuid, String playerName, String type, String reason, int duration) {
+        write(new PunishmentWrite(uuid, playerName, type, reason, duration, null));
     }
 
     public void removeMute(UUID uuid) {
@@ -373,6 +556,7 @@ public class DatabaseManager {
             stmt.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to remove mute", e);
+            captureDbError(e, "removeMute");
         }
     }
 
@@ -421,6 +605,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get player stats", e);
+            captureDbError(e, "getPlayerStats");
         }
         return null;
     }
@@ -444,6 +629,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get player history", e);
+            captureDbError(e, "getPlayerHistory");
         }
         return history;
     }
@@ -464,6 +650,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to clear player data", e);
+            captureDbError(e, "clearPlayerData");
         }
     }
 
@@ -502,31 +689,11 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get global stats", e);
+            captureDbError(e, "getGlobalStats");
         }
         return stats;
     }
 
-    public int decayViolationPoints(int hoursThreshold, int decayAmount) {
-        String sql;
-        if (isMySQL()) {
-            sql = "UPDATE player_data SET violation_points = GREATEST(0, violation_points - ?) " +
-                  "WHERE last_violation < DATE_SUB(NOW(), INTERVAL ? HOUR) AND violation_points > 0";
-        } else {
-            sql = "UPDATE player_data SET violation_points = MAX(0, violation_points - ?) " +
-                  "WHERE last_violation < datetime('now', '-' || ? || ' hours') AND violation_points > 0";
-        }
-        
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, decayAmount);
-            stmt.setInt(2, hoursThreshold);
-            return stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to decay violation points", e);
-            return 0;
-        }
-    }
-
     public List<ViolationRecord> getAllViolations(int limit) {
         List<ViolationRecord> violations = new ArrayList<>();
         String sql = "SELECT uuid, player_name, message, category, score, action, timestamp FROM violations ORDER BY timestamp DESC LIMIT ?";
@@ -547,10 +714,40 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get all violations", e);
+            captureDbError(e, "getAllViolations");
         }
         return violations;
     }
 
+    public long streamTrainingSamples(SampleConsumer consumer) {
+        long rows = streamSamples("SELECT message, 1 AS flagged FROM violations", consumer);
+        if (rows < 0) return -1;
+        long samples = streamSamples("SELECT message, flagged FROM classifier_samples", consumer);
+        return samples < 0 ? -1 : rows + samples;
+    }
+
+    private long streamSamples(String sql, SampleConsumer consumer) {
+        long rows = 0;
+        try (Connection conn = getConnection();
+             PreparedStatement stmt = conn.prepareStatement(sql, ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY)) {
+            stmt.setFetchSize(isMySQL() ? Integer.MIN_VALUE : 1000);
+            try (ResultSet rs = stmt.executeQuery()) {
+                while (rs.next()) {
+                    String message = rs.getString(1);
+                    if (message != null) {
+                        consumer.accept(message, rs.getBoolean(2));
+                        rows++;
+                    }
+                }
+            }
+        } catch (SQLException e) {
+            plugin.getLogger().log(Level.SEVERE, "Failed to stream training samples", e);
+            captureDbError(e, "streamTrainingSamples");
+            return -1;
+        }
+        return rows;
+    }
+
     public int createAppeal(UUID playerUuid, String playerName, int punishmentId, String punishmentType, String reason) {
         String sql = "INSERT INTO appeals (uuid, player_name, punishment_id, punishment_type, reason) VALUES (?, ?, ?, ?, ?)";
         try (Connection conn = getConnection();
@@ -567,6 +764,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to create appeal", e);
+            captureDbError(e, "createAppeal");
         }
         return -1;
     }
@@ -582,6 +780,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get appeal", e);
+            captureDbError(e, "getAppeal");
         }
         return null;
     }
@@ -597,6 +796,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get pending appeal", e);
+            captureDbError(e, "getPendingAppeal");
         }
         return null;
     }
@@ -612,6 +812,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get pending appeals", e);
+            captureDbError(e, "getPendingAppeals");
         }
         return appeals;
     }
@@ -628,6 +829,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get player appeals", e);
+            captureDbError(e, "getPlayerAppeals");
         }
         return appeals;
     }
@@ -642,6 +844,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get pending appeal count", e);
+            captureDbError(e, "getPendingAppealCount");
         }
         return 0;
     }
@@ -658,6 +861,7 @@ public class DatabaseManager {
             return stmt.executeUpdate() > 0;
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to update appeal status", e);
+            captureDbError(e, "updateAppealStatus");
         }
         return false;
     }
@@ -690,31 +894,11 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get latest punishment id", e);
+            captureDbError(e, "getLatestPunishmentId");
         }
         return -1;
     }
 
-    public int decayWarnings(int hoursThreshold, int decayAmount) {
-        String sql;
-        if (isMySQL()) {
-            sql = "UPDATE player_data SET violation_points = GREATEST(0, violation_points - ?) " +
-                  "WHERE last_violation < DATE_SUB(NOW(), INTERVAL ? HOUR) AND violation_points > 0";
-        } else {
-            sql = "UPDATE player_data SET violation_points = MAX(0, violation_points - ?) " +
-                  "WHERE last_violation < datetime('now', '-' || ? || ' hours') AND violation_points > 0";
-        }
-        
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setInt(1, decayAmount);
-            stmt.setInt(2, hoursThreshold);
-            return stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to decay warnings", e);
-            return 0;
-        }
-    }
-
     public int createReport(UUID reporterUuid, String reporterName, UUID reportedUuid, 
                             String reportedName, String reason, String reportedMessage) {
         String sql = "INSERT INTO reports (reporter_uuid, reporter_name, reported_uuid, reported_name, reason, reported_message) VALUES (?, ?, ?, ?, ?, ?)";
@@ -733,6 +917,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to create report", e);
+            captureDbError(e, "createReport");
         }
         return -1;
     }
@@ -748,6 +933,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get pending reports", e);
+            captureDbError(e, "getPendingReports");
         }
         return reports;
     }
@@ -764,6 +950,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get all reports", e);
+            captureDbError(e, "getAllReports");
         }
         return reports;
     }
@@ -779,6 +966,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get report", e);
+            captureDbError(e, "getReport");
         }
         return null;
     }
@@ -793,6 +981,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get pending report count", e);
+            captureDbError(e, "getPendingReportCount");
         }
         return 0;
     }
@@ -809,6 +998,7 @@ public class DatabaseManager {
             return stmt.executeUpdate() > 0;
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to update report status", e);
+            captureDbError(e, "updateReportStatus");
         }
         return false;
     }
@@ -831,19 +1021,7 @@ public class DatabaseManager {
     }
 
     public void addPunishmentWithMessage(UUID uuid, String playerName, String type, String reason, int duration, String originalMessage) {
-        String sql = "INSERT INTO punishments (uuid, player_name, type, reason, duration, original_message) VALUES (?, ?, ?, ?, ?, ?)";
-        try (Connection conn = getConnection();
-             PreparedStatement stmt = conn.prepareStatement(sql)) {
-            stmt.setString(1, uuid.toString());
-            stmt.setString(2, playerName);
-            stmt.setString(3, type);
-            stmt.setString(4, reason);
-            stmt.setInt(5, duration);
-            stmt.setString(6, originalMessage);
-            stmt.executeUpdate();
-        } catch (SQLException e) {
-            plugin.getLogger().log(Level.SEVERE, "Failed to add punishment with message", e);
-        }
+        write(new PunishmentWrite(uuid, playerName, type, reason, duration, originalMessage));
     }
 
     public String getPunishmentOriginalMessage(int punishmentId) {
@@ -857,6 +1035,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get punishment original message", e);
+            captureDbError(e, "getPunishmentOriginalMessage");
         }
         return null;
     }
@@ -879,6 +1058,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to create appeal with message", e);
+            captureDbError(e, "createAppealWithMessage");
         }
         return -1;
     }
@@ -894,6 +1074,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to get appeal original message", e);
+            captureDbError(e, "getAppealOriginalMessage");
         }
         return null;
     }
@@ -906,6 +1087,7 @@ public class DatabaseManager {
             stmt.executeUpdate();
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to remove ban", e);
+            captureDbError(e, "removeBan");
         }
     }
 
@@ -920,6 +1102,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to check active ban", e);
+            captureDbError(e, "hasActiveBan");
         }
         return false;
     }
@@ -946,6 +1129,7 @@ public class DatabaseManager {
             }
         } catch (SQLException e) {
             plugin.getLogger().log(Level.SEVERE, "Failed to check active mute", e);
+            captureDbError(e, "hasActiveMute");
         }
         return false;
     }
@@ -987,12 +1171,98 @@ public class DatabaseManager {
     }
 
     public void close() {
+        if (writer != null) {
+            writer.shutdown();
+        }
         if (dataSource != null && !dataSource.isClosed()) {
             dataSource.close();
             plugin.getLogger().info("Database connection closed");
         }
     }
 
+    record ViolationWrite(UUID uuid, String playerName, String message, String category,
+                          double score, String action) implements BatchWriter.PendingWrite {
+        @Override
+        public String sql() {
+            return "INSERT INTO violations (uuid, player_name, message, category, score, action) VALUES (?, ?, ?, ?, ?, ?)";
+        }
+
+        @Override
+        public void bind(PreparedStatement stmt) throws SQLException {
+            stmt.setString(1, uuid.toString());
+            stmt.setString(2, playerName);
+            stmt.setString(3, message);
+            stmt.setString(4, category);
+            stmt.setDouble(5, score);
+            stmt.setString(6, action);
+        }
+    }
+
+    private record PunishmentWrite(UUID uuid, String playerName, String type, String reason,
+                                   int duration, String originalMessage) implements BatchWriter.PendingWrite {
+        @Override
+        public String sql() {
+            return "INSERT INTO punishments (uuid, player_name, type, reason, duration, original_message) VALUES (?, ?, ?, ?, ?, ?)";
+        }
+
+        @Override
+        public void bind(PreparedStatement stmt) throws SQLException {
+            stmt.setString(1, uuid.toString());
+            stmt.setString(2, playerName);
+            stmt.setString(3, type);
+            stmt.setString(4, reason);
+            stmt.setInt(5, duration);
+            stmt.setString(6, originalMessage);
+        }
+    }
+
+    private record VerdictWrite(boolean mysql, MessageKey key, MessageCache.CachedResult result, String model,
+                                double threshold, long updatedAt) implements BatchWriter.PendingWrite {
+        @Override
+        public String sql() {
+            if (mysql) {
+                return "INSERT INTO verdict_cache (hash, hash_lo, flagged, category, score, scores, model, threshold, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                       "ON DUPLICATE KEY UPDATE hash_lo = VALUES(hash_lo), flagged = VALUES(flagged), category = VALUES(category), score = VALUES(score), scores = VALUES(scores), " +
+                       "model = VALUES(model), threshold = VALUES(threshold), updated_at = VALUES(updated_at)";
+            }
+            return "INSERT INTO verdict_cache (hash, hash_lo, flagged, category, score, scores, model, threshold, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?) " +
+                   "ON CONFLICT(hash) DO UPDATE SET hash_lo = excluded.hash_lo, flagged = excluded.flagged, category = excluded.category, score = excluded.score, scores = excluded.scores, " +
+                   "model = excluded.model, threshold = excluded.threshold, updated_at = excluded.updated_at";
+        }
+
+        @Override
+        public void bind(PreparedStatement stmt) throws SQLException {
+            stmt.setLong(1, key.hi());
+            stmt.setLong(2, key.lo());
+            stmt.setBoolean(3, result.flagged());
+            stmt.setString(4, result.category());
+            stmt.setDouble(5, result.score());
+            stmt.setString(6, result.scores().encode());
+            stmt.setString(7, model);
+            stmt.setDouble(8, threshold);
+            stmt.setLong(9, updatedAt);
+        }
+    }
+
+    private record ClassifierSampleWrite(String message, boolean flagged, long createdAt) implements BatchWriter.PendingWrite {
+        @Override
+        public String sql() {
+            return "INSERT INTO classifier_samples (message, flagged, created_at) VALUES (?, ?, ?)";
+        }
+
+        @Override
+        public void bind(PreparedStatement stmt) throws SQLException {
+            stmt.setString(1, message);
+            stmt.setBoolean(2, flagged);
+            stmt.setLong(3, createdAt);
+        }
+    }
+
+    @FunctionalInterface
+    public interface SampleConsumer {
+        void accept(String message, boolean flagged);
+    }
+
     public static class PlayerStats {
         public final String playerName;
         public final int violationPoints;
@@ -1059,4 +1329,10 @@ public class DatabaseManager {
         public int totalKicks;
         public int totalBans;
     }
+
+    static final class UnavailableException extends SQLTransientConnectionException {
+        private UnavailableException(String message, SQLException cause) {
+            super(message, "08000", cause);
+        }
+    }
 }
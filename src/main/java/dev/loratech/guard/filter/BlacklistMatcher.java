@@ -0,0 +1,230 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.util.TextUtil;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+public final class BlacklistMatcher {
+
+    private static final BlacklistMatcher EMPTY = compile(List.of());
+
+    private final String[] words;
+    private final int[] edgeStart;
+    private final char[] edgeChar;
+    private final int[] edgeTarget;
+    private final int[] fail;
+    private final int[] dictLink;
+    private final int[] terminal;
+    private final int[] depth;
+
+    private BlacklistMatcher(String[] words, int[] edgeStart, char[] edgeChar, int[] edgeTarget,
+                             int[] fail, int[] dictLink, int[] terminal, int[] depth) {
+        this.words = words;
+        this.edgeStart = edgeStart;
+        this.edgeChar = edgeChar;
+        this.edgeTarget = edgeTarget;
+        this.fail = fail;
+        this.dictLink = dictLink;
+        this.terminal = terminal;
+        this.depth = depth;
+    }
+
+    public static BlacklistMatcher empty() {
+        return EMPTY;
+    }
+
+    public static BlacklistMatcher compile(Collection<String> blacklist) {
+        // Sorted insertion keeps each node's children in ascending char order
+        TreeMap<String, String> normalized = new TreeMap<>();
+        for (String word : blacklist) {
+            if (word == null) continue;
+            String key = TextUtil.normalizeText(word);
+            if (key == null || key.isEmpty()) continue;
+            normalized.putIfAbsent(key, word);
+        }
+
+        int capacity = 1;
+        for (String key : normalized.keySet()) {
+            capacity += key.length();
+        }
+
+        char[] label = new char[capacity];
+        int[] firstChild = new int[capacity];
+        int[] lastChild = new int[capacity];
+        int[] nextSibling = new int[capacity];
+        int[] terminal = new int[capacity];
+        int[] depth = new int[capacity];
+        Arrays.fill(firstChild, -1);
+        Arrays.fill(lastChild, -1);
+        Arrays.fill(nextSibling, -1);
+        Arrays.fill(terminal, -1);
+
+        String[] words = new String[normalized.size()];
+        int nodeCount = 1;
+        int wordIndex = 0;
+
+        for (Map.Entry<String, String> entry : normalized.entrySet()) {
+            String key = entry.getKey();
+            int node = 0;
+            for (int i = 0; i < key.length(); i++) {
+                char c = key.charAt(i);
+                int child = lastChild[node];
+                if (child < 0 || label[child] != c) {
+                    child = nodeCount++;
+                    label[child] = c;
+                    depth[child] = depth[node] + 1;
+                    if (lastChild[node] < 0) {
+                        firstChild[node] = child;
+                    } else {
+                        nextSibling[lastChild[node]] = child;
+                    }
+                    lastChild[node] = child;
+                }
+                node = child;
+            }
+            terminal[node] = wordIndex;
+            words[wordIndex++] = entry.getValue();
+        }
+
+        int[] edgeStart = new int[nodeCount + 1];
+        char[] edgeChar = new char[Math.max(0, nodeCount - 1)];
+        int[] edgeTarget = new int[edgeChar.length];
+        int edge = 0;
+        for (int node = 0; node < nodeCount; node++) {
+            edgeStart[node] = edge;
+            for (int child = firstChild[node]; child >= 0; child = nextSibling[child]) {
+                edgeChar[edge] = label[child];
+                edgeTarget[edge] = child;
+                edge++;
+            }
+        }
+        edgeStart[nodeCount] = edge;
+
+        int[] fail = new int[nodeCount];
+        int[] dictLink = new int[nodeCount];
+        dictLink[0] = -1;
+        int[] queue = new int[nodeCount];
+        int head = 0;
+        int tail = 0;
+
+        for (int e = edgeStart[0]; e < edgeStart[1]; e++) {
+            int child = edgeTarget[e];
+            fail[child] = 0;
+            dictLink[child] = -1;
+            queue[tail++] = child;
+        }
+
+        while (head < tail) {
+            int node = queue[head++];
+            for (int e = edgeStart[node]; e < edgeStart[node + 1]; e++) {
+                int child = edgeTarget[e];
+                char c = edgeChar[e];
+                int f = fail[node];
+                int next = step(edgeStart, edgeChar, edgeTarget, f, c);
+                while (next < 0 && f != 0) {
+                    f = fail[f];
+                    next = step(edgeStart, edgeChar, edgeTarget, f, c);
+                }
+                fail[child] = next < 0 ? 0 : next;
+                int link = fail[child];
+                dictLink[child] = terminal[link] >= 0 ? link : dictLink[link];
+                queue[tail++] = child;
+            }
+        }
+
+        return new BlacklistMatcher(
+            words,
+            edgeStart,
+            edgeChar,
+            edgeTarget,
+            fail,
+            dictLink,
+            Arrays.copyOf(terminal, nodeCount),
+            Arrays.copyOf(depth, nodeCount)
+        );
+    }
+
+    public boolean isEmpty() {
+        return words.length == 0;
+    }
+
+    public int size() {
+        return words.length;
+    }
+
+    public String findFirst(CharSequence normalizedText) {
+        if (words.length == 0 || normalizedText == null) return null;
+
+        int state = 0;
+        int length = normalizedText.length();
+        for (int i = 0; i < length; i++) {
+            state = advance(state, normalizedText.charAt(i));
+            int match = terminal[state] >= 0 ? state : dictLink[state];
+            for (; match >= 0; match = dictLink[match]) {
+                if (isWholeWord(normalizedText, i + 1 - depth[match], i + 1)) {
+                    return words[terminal[match]];
+                }
+            }
+        }
+        return null;
+    }
+
+    public List<String> findAll(CharSequence normalizedText) {
+        if (words.length == 0 || normalizedText == null) return List.of();
+
+        List<String> matches = null;
+        int state = 0;
+        int length = normalizedText.length();
+        for (int i = 0; i < length; i++) {
+            state = advance(state, normalizedText.charAt(i));
+            int match = terminal[state] >= 0 ? state : dictLink[state];
+            for (; match >= 0; match = dictLink[match]) {
+                if (!isWholeWord(normalizedText, i + 1 - depth[match], i + 1)) continue;
+                String word = words[terminal[match]];
+                if (matches == null) {
+                    matches = new ArrayList<>(2);
+                }
+                if (!matches.contains(word)) {
+                    matches.add(word);
+                }
+            }
+        }
+        return matches == null ? List.of() : matches;
+    }
+
+    private int advance(int state, char c) {
+        int next = step(edgeStart, edgeChar, edgeTarget, state, c);
+        while (next < 0 && state != 0) {
+            state = fail[state];
+            next = step(edgeStart, edgeChar, edgeTarget, state, c);
+        }
+        return next < 0 ? 0 : next;
+    }
+
+    private static int step(int[] edgeStart, char[] edgeChar, int[] edgeTarget, int node, char c) {
+        int low = edgeStart[node];
+        int high = edgeStart[node + 1] - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            char value = edgeChar[mid];
+            if (value < c) {
+                low = mid + 1;
+            } else if (value > c) {
+                high = mid - 1;
+            } else {
+                return edgeTarget[mid];
+            }
+        }
+        return -1;
+    }
+
+    private static boolean isWholeWord(CharSequence text, int start, int end) {
+        if (start > 0 && Character.isLetterOrDigit(text.charAt(start - 1))) return false;
+        return end >= text.length() || !Character.isLetterOrDigit(text.charAt(end));
+    }
+}
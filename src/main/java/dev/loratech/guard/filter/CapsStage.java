@@ -0,0 +1,59 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+
+public class CapsStage implements FilterStage {
+
+    private final LoraGuard plugin;
+    private final int minLength;
+    private final int maxPercentage;
+    private final boolean lowercase;
+    private final boolean block;
+
+    public CapsStage(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.minLength = plugin.getConfigManager().getCapsLockMinLength();
+        this.maxPercentage = plugin.getConfigManager().getCapsLockMaxPercentage();
+        String action = plugin.getConfigManager().getCapsLockAction();
+        this.lowercase = "lowercase".equalsIgnoreCase(action);
+        this.block = "block".equalsIgnoreCase(action);
+    }
+
+    @Override
+    public FilterManager.FilterType getType() {
+        return FilterManager.FilterType.CAPS;
+    }
+
+    @Override
+    public FilterManager.FilterResult check(FilterContext context) {
+        String message = context.message();
+        if (message.length() < minLength) {
+            return FilterManager.FilterResult.allow();
+        }
+
+        int upperCount = 0;
+        int letterCount = 0;
+        for (int i = 0; i < message.length(); i++) {
+            char c = message.charAt(i);
+            if (Character.isLetter(c)) {
+                letterCount++;
+                if (Character.isUpperCase(c)) upperCount++;
+            }
+        }
+
+        if (letterCount == 0) {
+            return FilterManager.FilterResult.allow();
+        }
+
+        double percentage = (upperCount * 100.0) / letterCount;
+        if (percentage > maxPercentage) {
+            if (lowercase) {
+                return FilterManager.FilterResult.modify(getType(), message.toLowerCase());
+            } else if (block) {
+                return FilterManager.FilterResult.deny(getType(), plugin.getLanguageManager().getPrefixed("filters.caps"));
+            }
+        }
+
+        return FilterManager.FilterResult.allow();
+    }
+}
@@ -0,0 +1,114 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+import org.bukkit.entity.Player;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+public class FilterChain {
+
+    private static final int REORDER_INTERVAL = 1024;
+
+    private final LoraGuard plugin;
+    private final StageStats[] historyStages;
+    private final boolean adaptiveOrder;
+    private final AtomicLong checks = new AtomicLong();
+    private volatile StageStats[] contentStages;
+
+    private FilterChain(LoraGuard plugin, List<FilterStage> stages, boolean adaptiveOrder) {
+        this.plugin = plugin;
+        this.adaptiveOrder = adaptiveOrder;
+        List<StageStats> history = new ArrayList<>();
+        List<StageStats> content = new ArrayList<>();
+        for (FilterStage stage : stages) {
+            (stage.usesHistory() ? history : content).add(new StageStats(stage));
+        }
+        this.historyStages = history.toArray(new StageStats[0]);
+        this.contentStages = content.toArray(new StageStats[0]);
+    }
+
+    public static FilterChain compile(LoraGuard plugin) {
+        List<FilterStage> stages = new ArrayList<>();
+        if (plugin.getConfigManager().isAntiSpamEnabled()) stages.add(new SpamStage(plugin));
+        if (plugin.getConfigManager().isAntiFloodEnabled()) stages.add(new FloodStage(plugin));
+        if (plugin.getConfigManager().isLinkFilterEnabled()) stages.add(new LinkStage(plugin));
+        if (plugin.getConfigManager().isIpFilterEnabled()) stages.add(new IpStage(plugin));
+        if (plugin.getConfigManager().isCapsLockEnabled()) stages.add(new CapsStage(plugin));
+        return new FilterChain(plugin, stages, plugin.getConfigManager().isFilterAdaptiveOrderEnabled());
+    }
+
+    public FilterManager.FilterResult check(Player player, String message, MessageHistory history) {
+        long timestamp = System.currentTimeMillis();
+        long hash = MessageHistory.hash(message);
+        FilterContext context = new FilterContext(player, message, hash, timestamp, history);
+
+        synchronized (history) {
+            for (StageStats stats : historyStages) {
+                FilterManager.FilterResult result = run(stats, context);
+                if (!result.isAllowed()) {
+                    return result;
+                }
+            }
+            history.add(message, hash, timestamp);
+        }
+
+        FilterManager.FilterResult modified = null;
+        StageStats[] stages = contentStages;
+        for (StageStats stats : stages) {
+            FilterManager.FilterResult result = run(stats, context);
+            if (!result.isAllowed()) {
+                return result;
+            }
+            if (result.isModified()) {
+                modified = result;
+            }
+        }
+
+        if (adaptiveOrder && stages.length > 1 && checks.incrementAndGet() % REORDER_INTERVAL == 0) {
+            reorder();
+        }
+        return modified != null ? modified : FilterManager.FilterResult.allow();
+    }
+
+    private FilterManager.FilterResult run(StageStats stats, FilterContext context) {
+        long start = System.nanoTime();
+        FilterManager.FilterResult result = stats.stage.check(context);
+        stats.nanos.add(System.nanoTime() - start);
+        stats.calls.increment();
+        if (!result.isAllowed()) {
+            stats.denies.increment();
+            plugin.getTelemetryManager().recordFilterTrigger(stats.stage.getType().name());
+        }
+        return result;
+    }
+
+    private void reorder() {
+        StageStats[] reordered = contentStages.clone();
+        Arrays.sort(reordered, Comparator.comparingDouble(StageStats::rank));
+        contentStages = reordered;
+    }
+
+    private static class StageStats {
+        private final FilterStage stage;
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder denies = new LongAdder();
+        private final LongAdder nanos = new LongAdder();
+
+        private StageStats(FilterStage stage) {
+            this.stage = stage;
+        }
+
+        private double rank() {
+            long callCount = calls.sum();
+            if (callCount == 0) return 0;
+            double averageCost = (double) nanos.sum() / callCount;
+            double denyRate = (denies.sum() + 1.0) / (callCount + 2.0);
+            return averageCost / denyRate;
+        }
+    }
+}
@@ -0,0 +1,5 @@
+package dev.loratech.guard.filter;
+
+import org.bukkit.entity.Player;
+
+public record FilterContext(Player player, String message, long hash, long timestamp, MessageHistory history) {}
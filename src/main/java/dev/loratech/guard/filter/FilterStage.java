@@ -0,0 +1,12 @@
+package dev.loratech.guard.filter;
+
+public interface FilterStage {
+
+    FilterManager.FilterType getType();
+
+    FilterManager.FilterResult check(FilterContext context);
+
+    default boolean usesHistory() {
+        return false;
+    }
+}
@@ -0,0 +1,34 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+
+public class FloodStage implements FilterStage {
+
+    private final LoraGuard plugin;
+    private final int maxMessages;
+    private final long timeframeMs;
+
+    public FloodStage(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.maxMessages = plugin.getConfigManager().getAntiFloodMaxMessages();
+        this.timeframeMs = plugin.getConfigManager().getAntiFloodTimeframe() * 1000L;
+    }
+
+    @Override
+    public FilterManager.FilterType getType() {
+        return FilterManager.FilterType.FLOOD;
+    }
+
+    @Override
+    public boolean usesHistory() {
+        return true;
+    }
+
+    @Override
+    public FilterManager.FilterResult check(FilterContext context) {
+        if (context.history().countSince(context.timestamp() - timeframeMs) >= maxMessages) {
+            return FilterManager.FilterResult.deny(getType(), plugin.getLanguageManager().getPrefixed("filters.flood"));
+        }
+        return FilterManager.FilterResult.allow();
+    }
+}
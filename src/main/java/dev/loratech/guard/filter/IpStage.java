@@ -0,0 +1,41 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class IpStage implements FilterStage {
+
+    private static final Pattern IP_PATTERN = Pattern.compile(
+        "\\b(?:\\d{1,3}[.,]){3}\\d{1,3}(?::\\d{1,5})?\\b"
+    );
+
+    private final LoraGuard plugin;
+    private final List<String> whitelist;
+
+    public IpStage(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.whitelist = List.copyOf(plugin.getConfigManager().getIpWhitelist());
+    }
+
+    @Override
+    public FilterManager.FilterType getType() {
+        return FilterManager.FilterType.IP;
+    }
+
+    @Override
+    public FilterManager.FilterResult check(FilterContext context) {
+        String message = context.message();
+        if (!IP_PATTERN.matcher(message).find()) {
+            return FilterManager.FilterResult.allow();
+        }
+
+        for (String allowed : whitelist) {
+            if (message.contains(allowed)) {
+                return FilterManager.FilterResult.allow();
+            }
+        }
+        return FilterManager.FilterResult.deny(getType(), plugin.getLanguageManager().getPrefixed("filters.ip"));
+    }
+}
@@ -0,0 +1,48 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class LinkStage implements FilterStage {
+
+    private static final Pattern URL_PATTERN = Pattern.compile(
+        "(https?://)?([\\w-]+\\.)+[\\w-]+(/[\\w-./?%&=]*)?",
+        Pattern.CASE_INSENSITIVE
+    );
+
+    private final LoraGuard plugin;
+    private final List<String> whitelist;
+    private final boolean block;
+
+    public LinkStage(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.whitelist = plugin.getConfigManager().getLinkWhitelist().stream()
+            .map(String::toLowerCase)
+            .toList();
+        this.block = "block".equalsIgnoreCase(plugin.getConfigManager().getLinkAction());
+    }
+
+    @Override
+    public FilterManager.FilterType getType() {
+        return FilterManager.FilterType.LINK;
+    }
+
+    @Override
+    public FilterManager.FilterResult check(FilterContext context) {
+        String message = context.message();
+        if (!block || !URL_PATTERN.matcher(message).find()) {
+            return FilterManager.FilterResult.allow();
+        }
+
+        String lowerMessage = message.toLowerCase();
+        for (String allowed : whitelist) {
+            if (lowerMessage.contains(allowed)) {
+                return FilterManager.FilterResult.allow();
+            }
+        }
+
+        return FilterManager.FilterResult.deny(getType(), plugin.getLanguageManager().getPrefixed("filters.link"));
+    }
+}
@@ -0,0 +1,75 @@
+package dev.loratech.guard.filter;
+
+public class MessageHistory {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final long[] timestamps;
+    private final long[] hashes;
+    private int head;
+    private int size;
+    private String lastMessage;
+
+    public MessageHistory(int capacity) {
+        this.timestamps = new long[capacity];
+        this.hashes = new long[capacity];
+    }
+
+    public void add(String message, long hash, long timestamp) {
+        timestamps[head] = timestamp;
+        hashes[head] = hash;
+        head = (head + 1) % timestamps.length;
+        if (size < timestamps.length) {
+            size++;
+        }
+        lastMessage = message;
+    }
+
+    public int countSince(long since) {
+        int count = 0;
+        for (int i = 0, index = newest(); i < size; i++, index = previous(index)) {
+            if (timestamps[index] < since) break;
+            count++;
+        }
+        return count;
+    }
+
+    public int countMatchingSince(long hash, long since) {
+        int count = 0;
+        for (int i = 0, index = newest(); i < size; i++, index = previous(index)) {
+            if (timestamps[index] < since) break;
+            if (hashes[index] == hash) count++;
+        }
+        return count;
+    }
+
+    public String getLastMessage() {
+        return lastMessage;
+    }
+
+    private int newest() {
+        return previous(head);
+    }
+
+    private int previous(int index) {
+        return index == 0 ? timestamps.length - 1 : index - 1;
+    }
+
+    public static long hash(String message) {
+        int start = 0;
+        int end = message.length();
+        while (start < end && message.charAt(start) <= ' ') start++;
+        while (end > start && message.charAt(end - 1) <= ' ') end--;
+
+        long hash = FNV_OFFSET;
+        for (int i = start; i < end; i++) {
+            char c = Character.toLowerCase(message.charAt(i));
+            hash ^= c & 0xff;
+            hash *= FNV_PRIME;
+            hash ^= c >>> 8;
+            hash *= FNV_PRIME;
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,35 @@
+package dev.loratech.guard.filter;
+
+import dev.loratech.guard.LoraGuard;
+
+public class SpamStage implements FilterStage {
+
+    private final LoraGuard plugin;
+    private final int maxMessages;
+    private final long timeframeMs;
+
+    public SpamStage(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.maxMessages = plugin.getConfigManager().getAntiSpamMaxMessages();
+        this.timeframeMs = plugin.getConfigManager().getAntiSpamTimeframe() * 1000L;
+    }
+
+    @Override
+    public FilterManager.FilterType getType() {
+        return FilterManager.FilterType.SPAM;
+    }
+
+    @Override
+    public boolean usesHistory() {
+        return true;
+    }
+
+    @Override
+    public FilterManager.FilterResult check(FilterContext context) {
+        int sameMessageCount = context.history().countMatchingSince(context.hash(), context.timestamp() - timeframeMs);
+        if (sameMessageCount >= maxMessages) {
+            return FilterManager.FilterResult.deny(getType(), plugin.getLanguageManager().getPrefixed("filters.spam"));
+        }
+        return FilterManager.FilterResult.allow();
+    }
+}
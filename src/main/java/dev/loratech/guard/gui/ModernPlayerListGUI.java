@@ -50,8 +50,8 @@ public class ModernPlayerListGUI extends PaginatedGUI<Player> {
         switch (sortMode) {
             case NAME -> players.sort(Comparator.comparing(Player::getName));
             case VIOLATIONS -> players.sort((a, b) -> {
-                int va = plugin.getDatabaseManager().getPlayerViolationPoints(a.getUniqueId());
-                int vb = plugin.getDatabaseManager().getPlayerViolationPoints(b.getUniqueId());
+                int va = plugin.getViolationLedger().getPoints(a.getUniqueId());
+                int vb = plugin.getViolationLedger().getPoints(b.getUniqueId());
                 return Integer.compare(vb, va);
             });
             case MUTED -> players.sort((a, b) -> {
@@ -66,7 +66,7 @@ public class ModernPlayerListGUI extends PaginatedGUI<Player> {
 
     @Override
     protected ItemStack createItemDisplay(Player player, int index) {
-        int violations = plugin.getDatabaseManager().getPlayerViolationPoints(player.getUniqueId());
+        int violations = plugin.getViolationLedger().getPoints(player.getUniqueId());
         boolean muted = plugin.getPunishmentManager().isPlayerMuted(player.getUniqueId());
         boolean whitelisted = plugin.getConfigManager().getWhitelistedPlayers().contains(player.getName());
 
@@ -49,7 +49,7 @@ public class PlayerDetailGUI extends AbstractGUI {
         inventory.setItem(11, createItem(Material.BOOK, plugin.getLanguageManager().get("gui.player-detail.history.title"), plugin.getLanguageManager().get("misc.loading")));
 
         org.bukkit.Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> {
-            int points = plugin.getDatabaseManager().getPlayerViolationPoints(target.getUniqueId());
+            int points = plugin.getViolationLedger().getPoints(target.getUniqueId());
             List<DatabaseManager.ViolationRecord> history = plugin.getDatabaseManager()
                 .getPlayerHistory(target.getUniqueId(), 5);
 
@@ -50,7 +50,7 @@ public class PlayerListGUI extends AbstractGUI {
                 if (i >= maxSlots) break;
                 
                 Player player = onlinePlayers.get(i);
-                int violations = plugin.getDatabaseManager().getPlayerViolationPoints(player.getUniqueId());
+                int violations = plugin.getViolationLedger().getPoints(player.getUniqueId());
                 boolean muted = plugin.getPunishmentManager().isPlayerMuted(player.getUniqueId());
                 boolean whitelisted = plugin.getConfigManager().getWhitelistedPlayers().contains(player.getName());
                 
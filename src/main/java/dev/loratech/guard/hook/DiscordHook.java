@@ -2,20 +2,18 @@ package dev.loratech.guard.hook;
 
 import com.google.gson.JsonObject;
 import dev.loratech.guard.LoraGuard;
-import okhttp3.*;
 import org.bukkit.entity.Player;
 
-import java.io.IOException;
 import java.time.Instant;
 
 public class DiscordHook {
 
     private final LoraGuard plugin;
-    private final OkHttpClient httpClient;
+    private final WebhookQueue queue;
 
     public DiscordHook(LoraGuard plugin) {
         this.plugin = plugin;
-        this.httpClient = new OkHttpClient();
+        this.queue = new WebhookQueue(plugin, this);
     }
 
     public void sendReport(Player reporter, Player target, String reason, String lastMessage, boolean punished) {
@@ -77,28 +75,8 @@ public class DiscordHook {
         fields.add(field);
     }
 
-    private void sendPayload(String webhookUrl, JsonObject embed) throws IOException {
-        com.google.gson.JsonArray embeds = new com.google.gson.JsonArray();
-        embeds.add(embed);
-
-        JsonObject payload = new JsonObject();
-        payload.add("embeds", embeds);
-
-        RequestBody body = RequestBody.create(
-            payload.toString(),
-            MediaType.parse("application/json")
-        );
-
-        Request request = new Request.Builder()
-            .url(webhookUrl)
-            .post(body)
-            .build();
-
-        try (Response response = httpClient.newCall(request).execute()) {
-            if (!response.isSuccessful() && plugin.getConfigManager().isDebug()) {
-                plugin.getLogger().warning("Discord webhook failed: " + response.code());
-            }
-        }
+    private void sendPayload(String webhookUrl, JsonObject embed) {
+        queue.offer(webhookUrl, embed);
     }
 
     public void sendViolation(Player player, String message, String category, double score) {
@@ -111,41 +89,51 @@ public class DiscordHook {
             return;
         }
 
-        plugin.getServer().getScheduler().runTaskAsynchronously(plugin, () -> {
-            try {
-                String color = plugin.getConfigManager().getDiscordEmbedColor();
-                int colorInt = Integer.parseInt(color.replace("#", ""), 16);
+        queue.offerViolation(webhookUrl, player.getUniqueId(), player.getName(), message, category, score);
+    }
 
-                JsonObject embed = new JsonObject();
-                embed.addProperty("title", "⚠️ Chat Violation Detected");
-                embed.addProperty("color", colorInt);
-                embed.addProperty("timestamp", Instant.now().toString());
+    JsonObject buildViolationEmbed(WebhookQueue.ViolationSummary summary) {
+        int colorInt;
+        try {
+            colorInt = Integer.parseInt(plugin.getConfigManager().getDiscordEmbedColor().replace("#", ""), 16);
+        } catch (NumberFormatException e) {
+            colorInt = 0xFF0000;
+        }
 
-                JsonObject author = new JsonObject();
-                author.addProperty("name", player.getName());
-                author.addProperty("icon_url", "https://mc-heads.net/avatar/" + player.getUniqueId());
-                embed.add("author", author);
+        JsonObject embed = new JsonObject();
+        embed.addProperty("title", summary.getCount() > 1
+            ? "⚠️ " + summary.getCount() + " Chat Violations Detected"
+            : "⚠️ Chat Violation Detected");
+        embed.addProperty("color", colorInt);
+        embed.addProperty("timestamp", Instant.now().toString());
 
-                com.google.gson.JsonArray fields = new com.google.gson.JsonArray();
+        JsonObject author = new JsonObject();
+        author.addProperty("name", summary.getPlayerName());
+        author.addProperty("icon_url", "https://mc-heads.net/avatar/" + summary.getPlayer());
+        embed.add("author", author);
 
-                addField(fields, "Message", "```" + truncate(message, 200) + "```", false);
-                addField(fields, "Category", category, true);
-                addField(fields, "Score", String.format("%.2f", score), true);
-                addField(fields, "Server", plugin.getServer().getName(), true);
+        com.google.gson.JsonArray fields = new com.google.gson.JsonArray();
 
-                embed.add("fields", fields);
+        addField(fields, summary.getCount() > 1 ? "Latest Message" : "Message",
+            "```" + truncate(summary.getLastMessage(), 200) + "```", false);
+        addField(fields, "Category", String.join(", ", summary.getCategories()), true);
+        addField(fields, summary.getCount() > 1 ? "Highest Score" : "Score", String.format("%.2f", summary.getMaxScore()), true);
+        addField(fields, "Server", plugin.getServer().getName(), true);
 
-                JsonObject footer = new JsonObject();
-                footer.addProperty("text", "LoraGuard by Lora Technologies");
-                embed.add("footer", footer);
+        embed.add("fields", fields);
 
-                sendPayload(webhookUrl, embed);
-            } catch (IOException e) {
-                if (plugin.getConfigManager().isDebug()) {
-                    plugin.getLogger().warning("Discord webhook error: " + e.getMessage());
-                }
-            }
-        });
+        JsonObject footer = new JsonObject();
+        footer.addProperty("text", "LoraGuard by Lora Technologies");
+        embed.add("footer", footer);
+        return embed;
+    }
+
+    public WebhookQueue getQueue() {
+        return queue;
+    }
+
+    public void shutdown() {
+        queue.shutdown();
     }
 
     private String truncate(String text, int maxLength) {
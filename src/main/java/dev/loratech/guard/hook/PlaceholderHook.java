@@ -65,7 +65,7 @@ public class PlaceholderHook extends PlaceholderExpansion {
         }
 
         if (params.equalsIgnoreCase("player_violations")) {
-            return String.valueOf(plugin.getDatabaseManager().getPlayerViolationPoints(player.getUniqueId()));
+            return String.valueOf(plugin.getViolationLedger().getStoredPoints(player.getUniqueId()));
         }
 
         if (params.equalsIgnoreCase("player_muted")) {
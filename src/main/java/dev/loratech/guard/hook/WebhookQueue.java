@@ -0,0 +1,326 @@
+package dev.loratech.guard.hook;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.http.HttpTransport;
+import okhttp3.*;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class WebhookQueue {
+
+    private static final int MAX_EMBEDS = 10;
+    private static final long RETRY_DELAY_MS = 1000;
+    private static final long MAX_RETRY_AFTER_MS = 60000;
+    private static final long SHUTDOWN_TIMEOUT_MS = 5000;
+
+    private final LoraGuard plugin;
+    private final DiscordHook hook;
+    private final ScheduledExecutorService scheduler;
+    private final Object lock = new Object();
+    private final ArrayDeque<Entry> queue = new ArrayDeque<>();
+    private final Map<UUID, Entry> pendingViolations = new HashMap<>();
+    private final LongAdder sent = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder collapsed = new LongAdder();
+    private final LongAdder rateLimited = new LongAdder();
+
+    private boolean sending;
+    private long blockedUntil;
+
+    public WebhookQueue(LoraGuard plugin, DiscordHook hook) {
+        this.plugin = plugin;
+        this.hook = hook;
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "LoraGuard-DiscordWebhook");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void offer(String url, JsonObject embed) {
+        synchronized (lock) {
+            if (queue.size() >= plugin.getConfigManager().getDiscordMaxQueued()) {
+                dropped.increment();
+                return;
+            }
+            queue.addLast(new Entry(url, embed, null));
+            scheduleLocked();
+        }
+    }
+
+    public void offerViolation(String url, UUID player, String playerName, String message, String category, double score) {
+        synchronized (lock) {
+            Entry pending = pendingViolations.get(player);
+            if (pending != null && queue.size() >= plugin.getConfigManager().getDiscordCollapseAfter()) {
+                pending.summary.merge(message, category, score);
+                collapsed.increment();
+                return;
+            }
+            if (queue.size() >= plugin.getConfigManager().getDiscordMaxQueued()) {
+                if (pending != null) {
+                    pending.summary.merge(message, category, score);
+                    collapsed.increment();
+                } else {
+                    dropped.increment();
+                }
+                return;
+            }
+            Entry entry = new Entry(url, null, new ViolationSummary(player, playerName, message, category, score));
+            queue.addLast(entry);
+            pendingViolations.put(player, entry);
+            scheduleLocked();
+        }
+    }
+
+    private void scheduleLocked() {
+        if (sending || scheduler.isShutdown()) return;
+        sending = true;
+        long delay = Math.max(0, blockedUntil - System.currentTimeMillis());
+        scheduler.schedule(this::flush, delay, TimeUnit.MILLISECONDS);
+    }
+
+    private void flush() {
+        List<Entry> batch = new ArrayList<>(MAX_EMBEDS);
+        synchronized (lock) {
+            while (batch.size() < MAX_EMBEDS && !queue.isEmpty()) {
+                if (!batch.isEmpty() && !batch.get(0).url.equals(queue.peekFirst().url)) break;
+                Entry entry = queue.pollFirst();
+                if (entry.summary != null) {
+                    pendingViolations.remove(entry.summary.player, entry);
+                }
+                batch.add(entry);
+            }
+            if (batch.isEmpty()) {
+                sending = false;
+                lock.notifyAll();
+                return;
+            }
+        }
+
+        try {
+            post(batch);
+        } catch (RuntimeException e) {
+            dropped.add(batch.size());
+            if (plugin.getConfigManager().isDebug()) {
+                plugin.getLogger().warning("Discord webhook error: " + e.getMessage());
+            }
+            finish(0);
+        }
+    }
+
+    private void post(List<Entry> batch) {
+        JsonArray embeds = new JsonArray();
+        for (Entry entry : batch) {
+            embeds.add(entry.embed != null ? entry.embed : hook.buildViolationEmbed(entry.summary));
+        }
+
+        JsonObject payload = new JsonObject();
+        payload.add("embeds", embeds);
+
+        Request request = new Request.Builder()
+            .url(batch.get(0).url)
+            .post(RequestBody.create(payload.toString(), MediaType.parse("application/json")))
+            .build();
+
+        Call call = plugin.getHttpTransport().enqueue(HttpTransport.Destination.DISCORD, request, new Callback() {
+            @Override
+            public void onFailure(Call call, IOException e) {
+                dropped.add(batch.size());
+                if (plugin.getConfigManager().isDebug()) {
+                    plugin.getLogger().warning("Discord webhook error: " + e.getMessage());
+                }
+                finish(0);
+            }
+
+            @Override
+            public void onResponse(Call call, Response response) {
+                try (response) {
+                    if (response.code() == 429) {
+                        rateLimited.increment();
+                        requeue(batch);
+                        finish(retryAfterMs(response));
+                        return;
+                    }
+                    if (response.isSuccessful()) {
+                        sent.add(batch.size());
+                    } else {
+                        dropped.add(batch.size());
+                        if (plugin.getConfigManager().isDebug()) {
+                            plugin.getLogger().warning("Discord webhook failed: " + response.code());
+                        }
+                    }
+                    finish(bucketResetMs(response));
+                }
+            }
+        });
+
+        if (call == null) {
+            requeue(batch);
+            finish(RETRY_DELAY_MS);
+        }
+    }
+
+    private void requeue(List<Entry> batch) {
+        synchronized (lock) {
+            for (int i = batch.size() - 1; i >= 0; i--) {
+                Entry entry = batch.get(i);
+                queue.addFirst(entry);
+                if (entry.summary != null) {
+                    pendingViolations.putIfAbsent(entry.summary.player, entry);
+                }
+            }
+        }
+    }
+
+    private void finish(long waitMs) {
+        synchronized (lock) {
+            if (waitMs > 0) {
+                blockedUntil = Math.max(blockedUntil, System.currentTimeMillis() + waitMs);
+            }
+            sending = false;
+            if (!queue.isEmpty()) {
+                scheduleLocked();
+            }
+            lock.notifyAll();
+        }
+    }
+
+    private long retryAfterMs(Response response) {
+        double seconds = parseSeconds(response.header("Retry-After"));
+        if (Double.isNaN(seconds)) {
+            seconds = parseSeconds(response.header("X-RateLimit-Reset-After"));
+        }
+        if (Double.isNaN(seconds) && response.body() != null) {
+            try {
+                JsonElement retryAfter = JsonParser.parseString(response.body().string()).getAsJsonObject().get("retry_after");
+                seconds = retryAfter != null ? retryAfter.getAsDouble() : Double.NaN;
+            } catch (IOException | RuntimeException ignored) {}
+        }
+        long millis = Double.isNaN(seconds) ? RETRY_DELAY_MS : (long) Math.ceil(seconds * 1000);
+        return Math.max(1, Math.min(MAX_RETRY_AFTER_MS, millis));
+    }
+
+    private long bucketResetMs(Response response) {
+        if (!"0".equals(response.header("X-RateLimit-Remaining"))) {
+            return 0;
+        }
+        double seconds = parseSeconds(response.header("X-RateLimit-Reset-After"));
+        return Double.isNaN(seconds) ? RETRY_DELAY_MS : Math.min(MAX_RETRY_AFTER_MS, (long) Math.ceil(seconds * 1000));
+    }
+
+    private static double parseSeconds(String value) {
+        if (value == null || value.isEmpty()) return Double.NaN;
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException e) {
+            return Double.NaN;
+        }
+    }
+
+    public int getDepth() {
+        synchronized (lock) {
+            return queue.size();
+        }
+    }
+
+    public long getSent() {
+        return sent.sum();
+    }
+
+    public long getDropped() {
+        return dropped.sum();
+    }
+
+    public long getCollapsed() {
+        return collapsed.sum();
+    }
+
+    public long getRateLimited() {
+        return rateLimited.sum();
+    }
+
+    public void shutdown() {
+        long deadline = System.currentTimeMillis() + SHUTDOWN_TIMEOUT_MS;
+        synchronized (lock) {
+            try {
+                long remaining;
+                while ((sending || !queue.isEmpty()) && (remaining = deadline - System.currentTimeMillis()) > 0) {
+                    lock.wait(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (!queue.isEmpty()) {
+                plugin.getLogger().warning("Discord webhook queue did not drain in time, " + queue.size() + " embeds left unsent");
+                dropped.add(queue.size());
+                queue.clear();
+                pendingViolations.clear();
+            }
+        }
+        scheduler.shutdownNow();
+    }
+
+    private record Entry(String url, JsonObject embed, ViolationSummary summary) {}
+
+    static class ViolationSummary {
+        private final UUID player;
+        private final String playerName;
+        private final Set<String> categories = new LinkedHashSet<>();
+        private String lastMessage;
+        private double maxScore;
+        private int count;
+
+        private ViolationSummary(UUID player, String playerName, String message, String category, double score) {
+            this.player = player;
+            this.playerName = playerName;
+            merge(message, category, score);
+        }
+
+        private void merge(String message, String category, double score) {
+            categories.add(category);
+            lastMessage = message;
+            maxScore = Math.max(maxScore, score);
+            count++;
+        }
+
+        UUID getPlayer() {
+            return player;
+        }
+
+        String getPlayerName() {
+            return playerName;
+        }
+
+        List<String> getCategories() {
+            return List.copyOf(categories);
+        }
+
+        String getLastMessage() {
+            return lastMessage;
+        }
+
+        double getMaxScore() {
+            return maxScore;
+        }
+
+        int getCount() {
+            return count;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package dev.loratech.guard.http;
+
+import dev.loratech.guard.LoraGuard;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import okhttp3.Request;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+public class HttpTransport {
+
+    public enum Destination {
+        API,
+        DISCORD,
+        TELEMETRY
+    }
+
+    private static final int DEFAULT_API_CONCURRENCY = 64;
+    private static final int API_MAX_QUEUED = 1000;
+    private static final int TELEMETRY_CONCURRENCY = 2;
+    private static final int TELEMETRY_MAX_QUEUED = 10;
+    private static final long TELEMETRY_TIMEOUT_MS = 10000;
+
+    private final ConnectionPool connectionPool;
+    private final Map<Destination, Lane> lanes = new EnumMap<>(Destination.class);
+
+    public HttpTransport(LoraGuard plugin) {
+        this.connectionPool = new ConnectionPool(16, 5, TimeUnit.MINUTES);
+        OkHttpClient shared = new OkHttpClient.Builder()
+            .connectionPool(connectionPool)
+            .build();
+
+        int apiConcurrency = plugin.getConfigManager().isApiConcurrencyLimitEnabled()
+            ? plugin.getConfigManager().getApiConcurrencyMaxLimit()
+            : DEFAULT_API_CONCURRENCY;
+        lanes.put(Destination.API, new Lane(shared, Destination.API,
+            apiConcurrency, API_MAX_QUEUED, plugin.getConfigManager().getApiTimeout()));
+        lanes.put(Destination.DISCORD, new Lane(shared, Destination.DISCORD,
+            plugin.getConfigManager().getDiscordMaxConcurrent(),
+            plugin.getConfigManager().getDiscordMaxQueued(),
+            plugin.getConfigManager().getDiscordTimeoutMs()));
+        lanes.put(Destination.TELEMETRY, new Lane(shared, Destination.TELEMETRY,
+            TELEMETRY_CONCURRENCY, TELEMETRY_MAX_QUEUED, TELEMETRY_TIMEOUT_MS));
+    }
+
+    public Call enqueue(Destination destination, Request request, Callback callback) {
+        return lanes.get(destination).enqueue(request, callback);
+    }
+
+    public Call newCall(Destination destination, Request request) {
+        return lanes.get(destination).client.newCall(request);
+    }
+
+    public Lane getLane(Destination destination) {
+        return lanes.get(destination);
+    }
+
+    public Collection<Lane> getLanes() {
+        return Collections.unmodifiableCollection(lanes.values());
+    }
+
+    public int getConnectionCount() {
+        return connectionPool.connectionCount();
+    }
+
+    public int getIdleConnectionCount() {
+        return connectionPool.idleConnectionCount();
+    }
+
+    public void shutdown() {
+        for (Lane lane : lanes.values()) {
+            lane.dispatcher.executorService().shutdown();
+        }
+        connectionPool.evictAll();
+    }
+
+    public static class Lane {
+        private final Destination destination;
+        private final Dispatcher dispatcher;
+        private final OkHttpClient client;
+        private final int maxQueued;
+        private final TransportMetrics metrics = new TransportMetrics();
+
+        private Lane(OkHttpClient shared, Destination destination, int maxConcurrent, int maxQueued, long timeoutMs) {
+            this.destination = destination;
+            this.maxQueued = maxQueued;
+            String threadName = "LoraGuard-Http-" + destination.name().toLowerCase();
+            this.dispatcher = new Dispatcher(new ThreadPoolExecutor(0, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), runnable -> {
+                    Thread thread = new Thread(runnable, threadName);
+                    thread.setDaemon(true);
+                    return thread;
+                }));
+            dispatcher.setMaxRequests(maxConcurrent);
+            dispatcher.setMaxRequestsPerHost(maxConcurrent);
+            this.client = shared.newBuilder()
+                .dispatcher(dispatcher)
+                .connectTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .readTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .writeTimeout(timeoutMs, TimeUnit.MILLISECONDS)
+                .callTimeout(timeoutMs * 2, TimeUnit.MILLISECONDS)
+                .addInterceptor(metrics)
+                .build();
+        }
+
+        private Call enqueue(Request request, Callback callback) {
+            if (dispatcher.queuedCallsCount() >= maxQueued) {
+                metrics.recordRejected();
+                return null;
+            }
+            Call call = client.newCall(request);
+            call.enqueue(callback);
+            return call;
+        }
+
+        public Destination getDestination() {
+            return destination;
+        }
+
+        public int getQueued() {
+            return dispatcher.queuedCallsCount();
+        }
+
+        public int getRunning() {
+            return dispatcher.runningCallsCount();
+        }
+
+        public TransportMetrics getMetrics() {
+            return metrics;
+        }
+    }
+}
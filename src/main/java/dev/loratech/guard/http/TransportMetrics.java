@@ -0,0 +1,78 @@
+package dev.loratech.guard.http;
+
+import dev.loratech.guard.util.LatencyHistogram;
+import okhttp3.Interceptor;
+import okhttp3.Response;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+public class TransportMetrics implements Interceptor {
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder latencyMs = new LongAdder();
+    private final LatencyHistogram histogram = new LatencyHistogram();
+
+    @Override
+    public Response intercept(Chain chain) throws IOException {
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean success = false;
+        try {
+            Response response = chain.proceed(chain.request());
+            success = response.isSuccessful();
+            return response;
+        } finally {
+            long elapsed = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            inFlight.decrementAndGet();
+            requests.increment();
+            latencyMs.add(elapsed);
+            histogram.record(elapsed);
+            if (!success) {
+                failures.increment();
+            }
+        }
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getAverageLatencyMs() {
+        long count = requests.sum();
+        return count > 0 ? (double) latencyMs.sum() / count : 0;
+    }
+
+    public long getLatencyPercentile(double quantile) {
+        return histogram.percentile(quantile);
+    }
+
+    public void reset() {
+        requests.reset();
+        failures.reset();
+        rejected.reset();
+        latencyMs.reset();
+        histogram.reset();
+    }
+}
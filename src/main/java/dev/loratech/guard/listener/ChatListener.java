@@ -1,8 +1,10 @@
 package dev.loratech.guard.listener;
 
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.CategoryRegistry;
 import dev.loratech.guard.api.ModerationResponse;
 import dev.loratech.guard.cache.MessageCache;
+import dev.loratech.guard.filter.BlacklistMatcher;
 import dev.loratech.guard.filter.FilterManager;
 import dev.loratech.guard.util.TextUtil;
 import io.papermc.paper.event.player.AsyncChatEvent;
@@ -13,6 +15,7 @@ import org.bukkit.event.EventPriority;
 import org.bukkit.event.Listener;
 
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
 
 public class ChatListener implements Listener {
 
@@ -77,31 +80,34 @@ public class ChatListener implements Listener {
             event.message(net.kyori.adventure.text.Component.text(message));
         }
 
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            String normalizedMessage = TextUtil.normalizeText(message);
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                String normalizedWord = TextUtil.normalizeText(word);
-                // Use word boundaries to avoid false positives (e.g. "ez" inside "yemezler")
-                // \\b matches word boundaries
-                if (java.util.regex.Pattern.compile("(?i)\\b" + java.util.regex.Pattern.quote(normalizedWord) + "\\b").matcher(normalizedMessage).find()) {
-                    if (!passthrough) {
-                        event.setCancelled(true);
-                        player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.blocked"));
-                    }
+        BlacklistMatcher blacklist = plugin.getFilterManager().getBlacklistMatcher();
+        if (!blacklist.isEmpty()) {
+            CharSequence normalizedMessage = TextUtil.normalizedView(message);
+            if (!passthrough) {
+                if (blacklist.findFirst(normalizedMessage) != null) {
+                    event.setCancelled(true);
+                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.blocked"));
+                    plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, message);
+                    return;
+                }
+            } else {
+                for (String ignored : blacklist.findAll(normalizedMessage)) {
                     plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, message);
-                    if (!passthrough) return;
                 }
             }
         }
 
         MessageCache.CachedResult cached = plugin.getMessageCache().get(message);
         if (cached != null) {
-            if (cached.flagged()) {
+            int category = cached.flagged()
+                ? plugin.getConfigManager().getSnapshot().bestCategory(cached.scores())
+                : -1;
+            if (category >= 0) {
                 if (!passthrough) {
                     event.setCancelled(true);
                     player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.blocked"));
                 }
-                plugin.getPunishmentManager().handleViolation(player, cached.category(), cached.score(), message);
+                plugin.getPunishmentManager().handleViolation(player, category, cached.scores().score(category), message);
             }
             if (!passthrough) return;
         }
@@ -113,53 +119,42 @@ public class ChatListener implements Listener {
         plugin.getTelemetryManager().recordMessageProcessed();
         long startTime = System.currentTimeMillis();
         
-        plugin.getApiClient().moderate(finalMessage).thenAcceptAsync(response -> {
+        CompletableFuture<ModerationResponse> verdict = plugin.getApiClient().moderate(finalMessage);
+        if (verdict.isDone() && !verdict.isCompletedExceptionally()) {
+            ModerationResponse immediate = verdict.join();
+            if (immediate != null && immediate.isShed()) {
+                if (!passthrough) {
+                    event.setCancelled(true);
+                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.busy"));
+                }
+                return;
+            }
+        }
+
+        verdict.thenAcceptAsync(response -> {
             long responseTime = System.currentTimeMillis() - startTime;
             
-            plugin.getTelemetryManager().recordApiCall(response != null, responseTime);
+            if (response == null || !(response.isLocal() || response.isShed())) {
+                plugin.getTelemetryManager().recordApiCall(response != null, responseTime);
+            }
             
             if (response == null || response.getResults() == null || response.getResults().isEmpty()) {
                 return;
             }
 
             ModerationResponse.Result result = response.getResults().get(0);
-            
-            plugin.getMessageCache().put(finalMessage, result);
 
             if (result.isFlagged()) {
-                List<String> enabledCategories = plugin.getConfigManager().getEnabledCategories();
-                java.util.Map<String, Double> categoryThresholds = plugin.getConfigManager().getCategoryThresholds();
-                double globalThreshold = plugin.getConfigManager().getApiThreshold();
-                
-                String bestCategory = null;
-                double bestScore = -1.0;
-
-                for (java.util.Map.Entry<String, Double> entry : result.getCategoryScores().entrySet()) {
-                    String category = entry.getKey();
-                    Double score = entry.getValue();
-
-                    if (!enabledCategories.contains(category)) {
-                        continue;
-                    }
-
-                    double threshold = categoryThresholds.getOrDefault(category, globalThreshold);
-
-                    if (score >= threshold) {
-                        if (score > bestScore) {
-                            bestScore = score;
-                            bestCategory = category;
-                        }
-                    }
-                }
+                int bestCategory = plugin.getConfigManager().getSnapshot().bestCategory(result.getScores());
 
-                if (bestCategory != null) {
+                if (bestCategory >= 0) {
                     plugin.getPunishmentManager().handleViolation(
                         player,
                         bestCategory,
-                        bestScore,
+                        result.getScores().score(bestCategory),
                         finalMessage
                     );
-                    plugin.getTelemetryManager().recordViolation(bestCategory);
+                    plugin.getTelemetryManager().recordViolation(CategoryRegistry.nameOf(bestCategory));
                 }
             }
         }).exceptionally(ex -> {
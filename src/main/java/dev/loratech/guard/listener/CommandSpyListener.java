@@ -64,18 +64,14 @@ public class CommandSpyListener implements Listener {
 
         if (content.isEmpty()) return;
 
-        String normalizedText = TextUtil.normalizeText(content);
-
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                if (normalizedText.toLowerCase().contains(word.toLowerCase())) {
-                    event.setCancelled(true);
-                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.command-blocked"));
-                    plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, content);
-                    notifyStaff(player, command, content);
-                    return;
-                }
-            }
+        CharSequence normalizedText = TextUtil.normalizedView(content);
+
+        if (plugin.getFilterManager().getBlacklistMatcher().findFirst(normalizedText) != null) {
+            event.setCancelled(true);
+            player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.command-blocked"));
+            plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, content);
+            notifyStaff(player, command, content);
+            return;
         }
 
         final String finalContent = content;
@@ -91,10 +87,7 @@ public class CommandSpyListener implements Listener {
                 ModerationResponse.Result result = response.getResults().get(0);
 
                 if (result.isFlagged()) {
-                    List<String> enabledCategories = plugin.getConfigManager().getEnabledCategories();
-                    List<String> flaggedCategories = result.getFlaggedCategories();
-
-                    boolean shouldBlock = flaggedCategories.stream().anyMatch(enabledCategories::contains);
+                    boolean shouldBlock = (result.getFlaggedMask() & plugin.getConfigManager().getSnapshot().enabledCategories()) != 0;
 
                     if (shouldBlock) {
                         Bukkit.getScheduler().runTask(plugin, () -> {
@@ -126,12 +119,6 @@ public class CommandSpyListener implements Listener {
             "command", command,
             "message", content);
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Player staff : Bukkit.getOnlinePlayers()) {
-                if (staff.hasPermission(permission)) {
-                    staff.sendMessage(plugin.getLanguageManager().getPrefix() + alert);
-                }
-            }
-        });
+        plugin.getStaffNotifier().alert(permission, false, plugin.getLanguageManager().getPrefix() + alert);
     }
 }
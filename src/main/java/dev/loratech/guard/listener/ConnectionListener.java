@@ -8,6 +8,8 @@ import org.bukkit.event.Listener;
 import org.bukkit.event.player.PlayerJoinEvent;
 import org.bukkit.event.player.PlayerQuitEvent;
 
+import java.util.UUID;
+
 public class ConnectionListener implements Listener {
 
     private final LoraGuard plugin;
@@ -18,6 +20,9 @@ public class ConnectionListener implements Listener {
 
     @EventHandler(priority = EventPriority.MONITOR)
     public void onJoin(PlayerJoinEvent event) {
+        UUID uuid = event.getPlayer().getUniqueId();
+        Bukkit.getScheduler().runTaskAsynchronously(plugin, () -> plugin.getViolationLedger().load(uuid));
+
         Bukkit.getScheduler().runTaskLater(plugin, () -> {
             if (plugin.getConfigManager().isExternalCommandsEnabled()) {
                 return;
@@ -46,5 +51,6 @@ public class ConnectionListener implements Listener {
         plugin.getGUIManager().unregisterGUI(event.getPlayer());
         plugin.getSlowmodeManager().clearPlayer(event.getPlayer().getUniqueId());
         plugin.getCooldownManager().clearCooldowns(event.getPlayer().getUniqueId());
+        plugin.getViolationLedger().unload(event.getPlayer().getUniqueId());
     }
 }
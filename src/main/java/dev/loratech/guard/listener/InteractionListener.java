@@ -14,7 +14,6 @@ import org.bukkit.event.player.PlayerEditBookEvent;
 import org.bukkit.inventory.meta.BookMeta;
 import org.bukkit.inventory.meta.ItemMeta;
 
-import java.util.List;
 import java.util.UUID;
 
 public class InteractionListener implements Listener {
@@ -44,17 +43,13 @@ public class InteractionListener implements Listener {
         String text = signText.toString().trim();
         if (text.isEmpty()) return;
 
-        String normalizedText = TextUtil.normalizeText(text);
+        CharSequence normalizedText = TextUtil.normalizedView(text);
 
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                if (normalizedText.toLowerCase().contains(word.toLowerCase())) {
-                    event.setCancelled(true);
-                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.sign-blocked"));
-                    plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, text);
-                    return;
-                }
-            }
+        if (plugin.getFilterManager().getBlacklistMatcher().findFirst(normalizedText) != null) {
+            event.setCancelled(true);
+            player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.sign-blocked"));
+            plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, text);
+            return;
         }
 
         checkWithApiAsync(player, text, "sign");
@@ -82,17 +77,13 @@ public class InteractionListener implements Listener {
         String text = bookContent.toString().trim();
         if (text.isEmpty()) return;
 
-        String normalizedText = TextUtil.normalizeText(text);
+        CharSequence normalizedText = TextUtil.normalizedView(text);
 
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                if (normalizedText.toLowerCase().contains(word.toLowerCase())) {
-                    event.setCancelled(true);
-                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.book-blocked"));
-                    plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, TextUtil.truncate(text, 100));
-                    return;
-                }
-            }
+        if (plugin.getFilterManager().getBlacklistMatcher().findFirst(normalizedText) != null) {
+            event.setCancelled(true);
+            player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.book-blocked"));
+            plugin.getPunishmentManager().handleViolation(player, "blacklist", 1.0, TextUtil.truncate(text, 100));
+            return;
         }
 
         checkWithApiAsync(player, TextUtil.truncate(text, 500), "book");
@@ -112,16 +103,12 @@ public class InteractionListener implements Listener {
         String itemName = resultMeta.getDisplayName();
         if (itemName.isEmpty()) return;
 
-        String normalizedText = TextUtil.normalizeText(itemName);
+        CharSequence normalizedText = TextUtil.normalizedView(itemName);
 
-        if (plugin.getConfigManager().isBlacklistEnabled()) {
-            for (String word : plugin.getConfigManager().getBlacklistedWords()) {
-                if (normalizedText.toLowerCase().contains(word.toLowerCase())) {
-                    event.setResult(null);
-                    player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.anvil-blocked"));
-                    return;
-                }
-            }
+        if (plugin.getFilterManager().getBlacklistMatcher().findFirst(normalizedText) != null) {
+            event.setResult(null);
+            player.sendMessage(plugin.getLanguageManager().getPrefixed("moderation.anvil-blocked"));
+            return;
         }
     }
 
@@ -137,10 +124,7 @@ public class InteractionListener implements Listener {
             ModerationResponse.Result result = response.getResults().get(0);
 
             if (result.isFlagged()) {
-                List<String> enabledCategories = plugin.getConfigManager().getEnabledCategories();
-                List<String> flaggedCategories = result.getFlaggedCategories();
-
-                boolean shouldBlock = flaggedCategories.stream().anyMatch(enabledCategories::contains);
+                boolean shouldBlock = (result.getFlaggedMask() & plugin.getConfigManager().getSnapshot().enabledCategories()) != 0;
 
                 if (shouldBlock) {
                     Bukkit.getScheduler().runTask(plugin, () -> {
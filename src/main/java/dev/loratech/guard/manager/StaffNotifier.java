@@ -0,0 +1,179 @@
+package dev.loratech.guard.manager;
+
+import dev.loratech.guard.LoraGuard;
+import org.bukkit.Bukkit;
+import org.bukkit.NamespacedKey;
+import org.bukkit.Registry;
+import org.bukkit.Sound;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerChangedWorldEvent;
+import org.bukkit.event.player.PlayerCommandSendEvent;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.bukkit.event.player.PlayerQuitEvent;
+import org.bukkit.scheduler.BukkitTask;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class StaffNotifier implements Listener {
+
+    private static final long RESYNC_TICKS = 20L * 30;
+
+    private final LoraGuard plugin;
+    private final Map<String, Set<Player>> recipients = new HashMap<>();
+    private final ConcurrentLinkedQueue<Alert> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private BukkitTask resyncTask;
+
+    public StaffNotifier(LoraGuard plugin) {
+        this.plugin = plugin;
+    }
+
+    public void start() {
+        resyncTask = Bukkit.getScheduler().runTaskTimer(plugin, this::resync, RESYNC_TICKS, RESYNC_TICKS);
+    }
+
+    public void stop() {
+        if (resyncTask != null) {
+            resyncTask.cancel();
+        }
+    }
+
+    public Collection<Player> getRecipients(String permission) {
+        Set<Player> staff = recipients.get(permission);
+        if (staff == null) {
+            staff = new LinkedHashSet<>();
+            for (Player player : Bukkit.getOnlinePlayers()) {
+                if (player.hasPermission(permission)) {
+                    staff.add(player);
+                }
+            }
+            recipients.put(permission, staff);
+        }
+        return Collections.unmodifiableSet(staff);
+    }
+
+    public void alert(String permission, boolean sound, String... lines) {
+        pending.add(new Alert(permission, sound, lines));
+        if (flushScheduled.compareAndSet(false, true)) {
+            if (plugin.getConfigManager().isStaffDigestEnabled()) {
+                Bukkit.getScheduler().runTaskLater(plugin, this::flush, plugin.getConfigManager().getStaffDigestTicks());
+            } else {
+                Bukkit.getScheduler().runTask(plugin, this::flush);
+            }
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        List<Alert> alerts = new ArrayList<>();
+        for (Alert alert; (alert = pending.poll()) != null; ) {
+            alerts.add(alert);
+        }
+        if (alerts.isEmpty()) return;
+
+        Sound sound = resolveSound(plugin.getConfigManager().getAlertSound());
+        if (!plugin.getConfigManager().isStaffDigestEnabled()) {
+            for (Alert alert : alerts) {
+                for (Player staff : getRecipients(alert.permission())) {
+                    for (String line : alert.lines()) {
+                        staff.sendMessage(line);
+                    }
+                    if (alert.sound() && sound != null) {
+                        staff.playSound(staff.getLocation(), sound, 1.0f, 1.0f);
+                    }
+                }
+            }
+            return;
+        }
+
+        Map<Player, Digest> digests = new LinkedHashMap<>();
+        for (Alert alert : alerts) {
+            for (Player staff : getRecipients(alert.permission())) {
+                Digest digest = digests.computeIfAbsent(staff, key -> new Digest());
+                digest.alerts++;
+                digest.sound |= alert.sound();
+                Collections.addAll(digest.lines, alert.lines());
+            }
+        }
+
+        digests.forEach((staff, digest) -> {
+            if (digest.alerts > 1) {
+                digest.lines.add(0, plugin.getLanguageManager().get("notifications.digest-header",
+                    "count", String.valueOf(digest.alerts)));
+            }
+            staff.sendMessage(String.join("\n", digest.lines));
+            if (digest.sound && sound != null) {
+                staff.playSound(staff.getLocation(), sound, 1.0f, 1.0f);
+            }
+        });
+    }
+
+    private Sound resolveSound(String name) {
+        try {
+            return Sound.valueOf(name);
+        } catch (IllegalArgumentException ignored) {}
+        try {
+            return Registry.SOUNDS.get(NamespacedKey.minecraft(name.toLowerCase()));
+        } catch (Exception ignored) {
+            return null;
+        }
+    }
+
+    private void refresh(Player player) {
+        recipients.forEach((permission, staff) -> {
+            if (player.hasPermission(permission)) {
+                staff.add(player);
+            } else {
+                staff.remove(player);
+            }
+        });
+    }
+
+    private void resync() {
+        recipients.values().forEach(Set::clear);
+        for (Player player : Bukkit.getOnlinePlayers()) {
+            refresh(player);
+        }
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onJoin(PlayerJoinEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onQuit(PlayerQuitEvent event) {
+        recipients.values().forEach(staff -> staff.remove(event.getPlayer()));
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onWorldChange(PlayerChangedWorldEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    @EventHandler(priority = EventPriority.MONITOR)
+    public void onCommandsResent(PlayerCommandSendEvent event) {
+        refresh(event.getPlayer());
+    }
+
+    private record Alert(String permission, boolean sound, String[] lines) {}
+
+    private static class Digest {
+        private final List<String> lines = new ArrayList<>();
+        private int alerts;
+        private boolean sound;
+    }
+}
@@ -1,13 +1,14 @@
 package dev.loratech.guard.punishment;
 
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.CategoryRegistry;
+import dev.loratech.guard.config.ConfigSnapshot;
+import dev.loratech.guard.telemetry.PerformanceTracker;
 import net.kyori.adventure.text.serializer.legacy.LegacyComponentSerializer;
 import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.entity.Player;
 
-import java.util.Map;
-import java.util.TreeMap;
 import java.util.UUID;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
@@ -15,48 +16,65 @@ import java.util.regex.Pattern;
 public class PunishmentManager {
 
     private final LoraGuard plugin;
+    private final ViolationPipeline pipeline;
     private static final Pattern DURATION_PATTERN = Pattern.compile("(\\d+)([smhd])");
 
     public PunishmentManager(LoraGuard plugin) {
         this.plugin = plugin;
+        this.pipeline = new ViolationPipeline(plugin);
     }
 
     public void handleViolation(Player player, String category, double score, String message) {
-        int weight = plugin.getConfigManager().getCategoryWeights().getOrDefault(category, 1);
-        plugin.getDatabaseManager().addViolationPoints(player.getUniqueId(), player.getName(), weight);
-        
-        int violationId = plugin.getDatabaseManager().logViolationAndGetId(
-            player.getUniqueId(), player.getName(), message, category, score);
+        handleViolation(player, CategoryRegistry.idOf(category), category, score, message);
+    }
 
-        int currentPoints = plugin.getDatabaseManager().getPlayerViolationPoints(player.getUniqueId());
-        String punishment = determinePunishment(currentPoints);
+    public void handleViolation(Player player, int category, double score, String message) {
+        handleViolation(player, category, CategoryRegistry.nameOf(category), score, message);
+    }
+
+    private void handleViolation(Player player, int categoryId, String category, double score, String message) {
+        pipeline.submit(player.getUniqueId(), () -> processViolation(player, categoryId, category, score, message));
+    }
 
-        String translatedCategory = plugin.getConfigManager().getCategoryDisplayName(category);
+    private void processViolation(Player player, int categoryId, String category, double score, String message) {
+        PerformanceTracker tracker = plugin.getTelemetryManager().getPerformanceTracker();
+
+        PerformanceTracker.TimingContext timing = tracker.startTiming("violation_points");
+        ConfigSnapshot config = plugin.getConfigManager().getSnapshot();
+        int weight = config.weightFor(categoryId);
+        int currentPoints = plugin.getViolationLedger().addPoints(player.getUniqueId(), player.getName(), weight);
+        tracker.recordTiming(timing);
+
+        timing = tracker.startTiming("violation_escalation");
+        String punishment = config.punishmentFor(currentPoints);
+
+        String translatedCategory = categoryId >= 0 ? config.displayNameFor(categoryId) : category;
 
         String actionTaken = "none";
         if (punishment != null) {
             actionTaken = punishment.split(":")[0];
             executePunishment(player, punishment, translatedCategory, message);
         }
-        
-        plugin.getDatabaseManager().updateViolationAction(violationId, actionTaken);
+        tracker.recordTiming(timing);
 
+        timing = tracker.startTiming("violation_log");
+        plugin.getDatabaseManager().logViolation(
+            player.getUniqueId(), player.getName(), message, category, score, actionTaken);
+        tracker.recordTiming(timing);
+
+        timing = tracker.startTiming("violation_notify");
         notifyStaff(player, message, translatedCategory, score);
         plugin.getDiscordHook().sendViolation(player, message, category, score);
         plugin.getTelemetryManager().recordViolationLog(player, message, category, score, actionTaken);
+        tracker.recordTiming(timing);
     }
 
-    private String determinePunishment(int points) {
-        Map<Integer, String> escalation = new TreeMap<>(plugin.getConfigManager().getEscalationPunishments());
-        String punishment = null;
-
-        for (Map.Entry<Integer, String> entry : escalation.entrySet()) {
-            if (points >= entry.getKey()) {
-                punishment = entry.getValue();
-            }
-        }
+    public ViolationPipeline getPipeline() {
+        return pipeline;
+    }
 
-        return punishment;
+    public void shutdown() {
+        pipeline.shutdown();
     }
 
     public void executePunishment(Player player, String punishmentString, String reason) {
@@ -83,7 +101,7 @@ public class PunishmentManager {
 
     public void warn(Player player, String reason) {
         plugin.getTelemetryManager().recordPunishment("WARN", 0);
-        int count = plugin.getDatabaseManager().getPlayerViolationPoints(player.getUniqueId());
+        int count = plugin.getViolationLedger().getPoints(player.getUniqueId());
         String message = plugin.getLanguageManager().getPrefixed("punishments.warn.message", 
             "reason", reason);
         player.sendMessage(message);
@@ -290,41 +308,16 @@ public class PunishmentManager {
             return;
         }
 
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            String alert = plugin.getLanguageManager().get("notifications.staff-alert",
-                "player", violator.getName(), "message", message);
-            String categoryInfo = plugin.getLanguageManager().get("notifications.category",
-                "category", category, "score", String.format("%.2f", score));
-
-            String permission = plugin.getConfigManager().getStaffPermission();
-            String soundName = plugin.getConfigManager().getAlertSound();
-
-            for (Player staff : Bukkit.getOnlinePlayers()) {
-                if (staff.hasPermission(permission)) {
-                    staff.sendMessage(alert);
-                    staff.sendMessage(categoryInfo);
-                    
-                    try {
-                        org.bukkit.NamespacedKey key = org.bukkit.NamespacedKey.minecraft(soundName.toLowerCase());
-                        org.bukkit.Sound sound = org.bukkit.Registry.SOUNDS.get(key);
-                        if (sound != null) {
-                            staff.playSound(staff.getLocation(), sound, 1.0f, 1.0f);
-                        }
-                    } catch (Exception ignored) {}
-                }
-            }
-        });
+        String alert = plugin.getLanguageManager().get("notifications.staff-alert",
+            "player", violator.getName(), "message", message);
+        String categoryInfo = plugin.getLanguageManager().get("notifications.category",
+            "category", category, "score", String.format("%.2f", score));
+        plugin.getStaffNotifier().alert(plugin.getConfigManager().getStaffPermission(), true, alert, categoryInfo);
     }
 
     private void broadcastToStaff(String message) {
-        String permission = plugin.getConfigManager().getStaffPermission();
-        Bukkit.getScheduler().runTask(plugin, () -> {
-            for (Player staff : Bukkit.getOnlinePlayers()) {
-                if (staff.hasPermission(permission)) {
-                    staff.sendMessage(plugin.getLanguageManager().getPrefix() + message);
-                }
-            }
-        });
+        plugin.getStaffNotifier().alert(plugin.getConfigManager().getStaffPermission(), false,
+            plugin.getLanguageManager().getPrefix() + message);
     }
 
     private int parseDuration(String duration) {
@@ -0,0 +1,134 @@
+package dev.loratech.guard.punishment;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+
+public class ViolationPipeline {
+
+    private static final long DROP_WARNING_INTERVAL_MS = 10000;
+
+    private final LoraGuard plugin;
+    private final ExecutorService workers;
+    private final Map<UUID, PlayerQueue> queues = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicLong dropped = new AtomicLong();
+    private final int capacity;
+    private volatile long lastDropWarning = 0;
+
+    public ViolationPipeline(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.capacity = plugin.getConfigManager().getViolationPipelineQueueSize();
+        AtomicInteger threadId = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(plugin.getConfigManager().getViolationPipelineThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "LoraGuard-Violation-" + threadId.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public boolean submit(UUID uuid, Runnable task) {
+        if (depth.incrementAndGet() > capacity) {
+            depth.decrementAndGet();
+            dropped.incrementAndGet();
+            long now = System.currentTimeMillis();
+            if (now - lastDropWarning > DROP_WARNING_INTERVAL_MS) {
+                lastDropWarning = now;
+                plugin.getLogger().warning("Violation queue is full (" + capacity + "), dropping violations. Dropped so far: " + dropped.get());
+            }
+            return false;
+        }
+
+        boolean[] schedule = new boolean[1];
+        PlayerQueue queue = queues.compute(uuid, (key, existing) -> {
+            PlayerQueue q = existing != null ? existing : new PlayerQueue();
+            q.tasks.add(task);
+            if (!q.scheduled) {
+                q.scheduled = true;
+                schedule[0] = true;
+            }
+            return q;
+        });
+
+        if (schedule[0]) {
+            try {
+                workers.execute(() -> drain(uuid, queue));
+            } catch (RejectedExecutionException e) {
+                int discarded = queue.tasks.size();
+                queue.tasks.clear();
+                queues.remove(uuid, queue);
+                depth.addAndGet(-discarded);
+            }
+        }
+        return true;
+    }
+
+    private void drain(UUID uuid, PlayerQueue queue) {
+        while (true) {
+            Runnable task;
+            while ((task = queue.tasks.poll()) != null) {
+                try {
+                    task.run();
+                } catch (Exception e) {
+                    plugin.getLogger().log(Level.SEVERE, "Failed to process violation for " + uuid, e);
+                    plugin.getTelemetryManager().getErrorCollector().captureException(e, "ViolationPipeline.drain");
+                } finally {
+                    depth.decrementAndGet();
+                }
+            }
+
+            boolean[] more = new boolean[1];
+            queues.compute(uuid, (key, existing) -> {
+                if (existing != queue) return existing;
+                if (queue.tasks.isEmpty()) {
+                    queue.scheduled = false;
+                    return null;
+                }
+                more[0] = true;
+                return queue;
+            });
+            if (!more[0]) return;
+        }
+    }
+
+    public int getQueueDepth() {
+        return depth.get();
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(5, TimeUnit.SECONDS)) {
+                plugin.getLogger().warning("Violation pipeline did not drain in time, " + depth.get() + " violations left unprocessed");
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static class PlayerQueue {
+        private final Queue<Runnable> tasks = new ConcurrentLinkedQueue<>();
+        private boolean scheduled;
+    }
+}
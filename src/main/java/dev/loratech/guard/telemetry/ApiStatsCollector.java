@@ -0,0 +1,123 @@
+package dev.loratech.guard.telemetry;
+
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.api.ConcurrencyLimiter;
+import dev.loratech.guard.util.CircuitBreaker;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ApiStatsCollector {
+
+    private final LoraGuard plugin;
+    private final LongAdder batches;
+    private final LongAdder batchedMessages;
+    private final LongAdder batchCapacity;
+    private final LongAdder partialFailures;
+    private final LongAdder coalescedRequests;
+    private final LongAdder shedRequests;
+    private final LongAdder hedgedRequests;
+    private final LongAdder hedgesWon;
+    private final LongAdder hedgeDelayMs;
+    private final LongAdder queuedMessages;
+    private final LongAdder queueNanos;
+    private final LongAccumulator maxQueueNanos;
+
+    public ApiStatsCollector(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.batches = new LongAdder();
+        this.batchedMessages = new LongAdder();
+        this.batchCapacity = new LongAdder();
+        this.partialFailures = new LongAdder();
+        this.coalescedRequests = new LongAdder();
+        this.shedRequests = new LongAdder();
+        this.hedgedRequests = new LongAdder();
+        this.hedgesWon = new LongAdder();
+        this.hedgeDelayMs = new LongAdder();
+        this.queuedMessages = new LongAdder();
+        this.queueNanos = new LongAdder();
+        this.maxQueueNanos = new LongAccumulator(Math::max, 0);
+    }
+
+    public void recordBatch(int size, int maxSize) {
+        batches.increment();
+        batchedMessages.add(size);
+        batchCapacity.add(maxSize);
+    }
+
+    public void recordPartialFailure(int failedResults) {
+        partialFailures.add(failedResults);
+    }
+
+    public void recordCoalesced() {
+        coalescedRequests.increment();
+    }
+
+    public void recordShed() {
+        shedRequests.increment();
+    }
+
+    public void recordHedge(long delayMs) {
+        hedgedRequests.increment();
+        hedgeDelayMs.add(delayMs);
+    }
+
+    public void recordHedgeWon() {
+        hedgesWon.increment();
+    }
+
+    public void recordQueueTime(long nanos) {
+        queuedMessages.increment();
+        queueNanos.add(nanos);
+        maxQueueNanos.accumulate(nanos);
+    }
+
+    public double getBatchFillRatio() {
+        long capacity = batchCapacity.sum();
+        return capacity > 0 ? (double) batchedMessages.sum() / capacity : 0;
+    }
+
+    public TelemetryEvent collectApiStats() {
+        long batchCount = batches.sum();
+        long messages = batchedMessages.sum();
+        long queued = queuedMessages.sum();
+        long hedges = hedgedRequests.sum();
+        ConcurrencyLimiter limiter = plugin.getApiClient().getLimiter();
+        CircuitBreaker breaker = plugin.getApiClient().getBreaker();
+
+        return new TelemetryEvent(TelemetryEvent.EventType.API_STATS)
+            .addData("batching_enabled", plugin.getConfigManager().isApiBatchingEnabled())
+            .addData("batches_sent", batchCount)
+            .addData("batched_messages", messages)
+            .addData("avg_batch_size", batchCount > 0 ? Math.round(messages * 100.0 / batchCount) / 100.0 : 0)
+            .addData("batch_fill_ratio", Math.round(getBatchFillRatio() * 10000) / 10000.0)
+            .addData("partial_failures", partialFailures.sum())
+            .addData("coalesced_requests", coalescedRequests.sum())
+            .addData("concurrency_limit", limiter != null ? limiter.getLimit() : -1)
+            .addData("in_flight", limiter != null ? limiter.getInFlight() : 0)
+            .addData("dispatcher_queued", plugin.getApiClient().getQueuedCalls())
+            .addData("shed_requests", shedRequests.sum())
+            .addData("hedged_requests", hedges)
+            .addData("hedges_won", hedgesWon.sum())
+            .addData("avg_hedge_delay_ms", hedges > 0 ? hedgeDelayMs.sum() / hedges : 0)
+            .addData("circuit_state", breaker != null ? breaker.getState().name() : "DISABLED")
+            .addData("circuit_trips", breaker != null ? breaker.getTrips() : 0)
+            .addData("avg_queue_ms", queued > 0 ? Math.round(queueNanos.sum() / 10_000.0 / queued) / 100.0 : 0)
+            .addData("max_queue_ms", Math.round(maxQueueNanos.get() / 10_000.0) / 100.0);
+    }
+
+    public void reset() {
+        batches.reset();
+        batchedMessages.reset();
+        batchCapacity.reset();
+        partialFailures.reset();
+        coalescedRequests.reset();
+        shedRequests.reset();
+        hedgedRequests.reset();
+        hedgesWon.reset();
+        hedgeDelayMs.reset();
+        queuedMessages.reset();
+        queueNanos.reset();
+        maxQueueNanos.reset();
+    }
+}
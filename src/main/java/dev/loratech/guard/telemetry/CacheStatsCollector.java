@@ -10,24 +10,34 @@ public class CacheStatsCollector {
     private final LongAdder cacheHits;
     private final LongAdder cacheMisses;
     private final LongAdder cacheEvictions;
+    private final LongAdder flaggedHits;
+    private final LongAdder flaggedEvictions;
 
     public CacheStatsCollector(LoraGuard plugin) {
         this.plugin = plugin;
         this.cacheHits = new LongAdder();
         this.cacheMisses = new LongAdder();
         this.cacheEvictions = new LongAdder();
+        this.flaggedHits = new LongAdder();
+        this.flaggedEvictions = new LongAdder();
     }
 
-    public void recordHit() {
+    public void recordHit(boolean flagged) {
         cacheHits.increment();
+        if (flagged) {
+            flaggedHits.increment();
+        }
     }
 
     public void recordMiss() {
         cacheMisses.increment();
     }
 
-    public void recordEviction() {
+    public void recordEviction(boolean flagged) {
         cacheEvictions.increment();
+        if (flagged) {
+            flaggedEvictions.increment();
+        }
     }
 
     public TelemetryEvent collectCacheStats() {
@@ -35,17 +45,31 @@ public class CacheStatsCollector {
         long misses = cacheMisses.sum();
         long total = hits + misses;
         double hitRate = total > 0 ? (hits * 100.0 / total) : 0;
+        long flaggedHitCount = flaggedHits.sum();
+        long cleanHitCount = hits - flaggedHitCount;
+        long evictions = cacheEvictions.sum();
+        long flaggedEvictionCount = flaggedEvictions.sum();
         
         TelemetryEvent event = new TelemetryEvent(TelemetryEvent.EventType.CACHE)
             .addData("cache_hits", hits)
             .addData("cache_misses", misses)
-            .addData("cache_evictions", cacheEvictions.sum())
+            .addData("cache_evictions", evictions)
+            .addData("clean_hits", cleanHitCount)
+            .addData("clean_misses", total - cleanHitCount)
+            .addData("clean_evictions", evictions - flaggedEvictionCount)
+            .addData("clean_size", plugin.getMessageCache().cleanSize())
+            .addData("flagged_hits", flaggedHitCount)
+            .addData("flagged_misses", total - cleanHitCount - flaggedHitCount)
+            .addData("flagged_evictions", flaggedEvictionCount)
+            .addData("flagged_size", plugin.getMessageCache().flaggedSize())
             .addData("hit_rate_percent", Math.round(hitRate * 100) / 100.0)
             .addData("total_requests", total)
             .addData("cache_size", plugin.getMessageCache().size())
             .addData("cache_enabled", plugin.getConfigManager().isCacheEnabled())
-            .addData("cache_max_size", plugin.getConfigManager().getCacheMaxSize())
-            .addData("cache_expire_minutes", plugin.getConfigManager().getCacheExpireMinutes());
+            .addData("clean_max_memory_kb", plugin.getConfigManager().getCleanCacheMaxMemoryKb())
+            .addData("clean_expire_minutes", plugin.getConfigManager().getCleanCacheExpireMinutes())
+            .addData("flagged_max_memory_kb", plugin.getConfigManager().getFlaggedCacheMaxMemoryKb())
+            .addData("flagged_expire_minutes", plugin.getConfigManager().getFlaggedCacheExpireMinutes());
         
         return event;
     }
@@ -54,5 +78,7 @@ public class CacheStatsCollector {
         cacheHits.reset();
         cacheMisses.reset();
         cacheEvictions.reset();
+        flaggedHits.reset();
+        flaggedEvictions.reset();
     }
 }
@@ -0,0 +1,118 @@
+package dev.loratech.guard.telemetry;
+
+import dev.loratech.guard.LoraGuard;
+
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+public class ClassifierStatsCollector {
+
+    private final LoraGuard plugin;
+    private final LongAdder localEvaluations;
+    private final LongAdder localNanos;
+    private final LongAccumulator localMaxNanos;
+    private final LongAdder localPasses;
+    private final LongAdder remoteCalls;
+    private final LongAdder remoteNanos;
+    private final LongAdder shadowAgreeClean;
+    private final LongAdder shadowMissedFlagged;
+    private final LongAdder shadowUncertainClean;
+    private final LongAdder shadowUncertainFlagged;
+
+    public ClassifierStatsCollector(LoraGuard plugin) {
+        this.plugin = plugin;
+        this.localEvaluations = new LongAdder();
+        this.localNanos = new LongAdder();
+        this.localMaxNanos = new LongAccumulator(Math::max, 0);
+        this.localPasses = new LongAdder();
+        this.remoteCalls = new LongAdder();
+        this.remoteNanos = new LongAdder();
+        this.shadowAgreeClean = new LongAdder();
+        this.shadowMissedFlagged = new LongAdder();
+        this.shadowUncertainClean = new LongAdder();
+        this.shadowUncertainFlagged = new LongAdder();
+    }
+
+    public void recordLocal(long nanos) {
+        localEvaluations.increment();
+        localNanos.add(nanos);
+        localMaxNanos.accumulate(nanos);
+    }
+
+    public void recordLocalPass() {
+        localPasses.increment();
+    }
+
+    public void recordRemote(long nanos) {
+        remoteCalls.increment();
+        remoteNanos.add(nanos);
+    }
+
+    public void recordComparison(boolean localClean, boolean apiFlagged) {
+        if (localClean) {
+            (apiFlagged ? shadowMissedFlagged : shadowAgreeClean).increment();
+        } else {
+            (apiFlagged ? shadowUncertainFlagged : shadowUncertainClean).increment();
+        }
+    }
+
+    public long getLocalPasses() {
+        return localPasses.sum();
+    }
+
+    public long getComparisons() {
+        return shadowAgreeClean.sum() + shadowMissedFlagged.sum()
+            + shadowUncertainClean.sum() + shadowUncertainFlagged.sum();
+    }
+
+    public double getCleanPrecision() {
+        long agree = shadowAgreeClean.sum();
+        long decided = agree + shadowMissedFlagged.sum();
+        return decided > 0 ? (double) agree / decided : 0;
+    }
+
+    public double getCleanCoverage() {
+        long clean = shadowAgreeClean.sum() + shadowUncertainClean.sum();
+        return clean > 0 ? (double) shadowAgreeClean.sum() / clean : 0;
+    }
+
+    public double getLocalAverageMicros() {
+        long count = localEvaluations.sum();
+        return count > 0 ? localNanos.sum() / 1000.0 / count : 0;
+    }
+
+    public double getRemoteAverageMillis() {
+        long count = remoteCalls.sum();
+        return count > 0 ? remoteNanos.sum() / 1_000_000.0 / count : 0;
+    }
+
+    public TelemetryEvent collectClassifierStats() {
+        return new TelemetryEvent(TelemetryEvent.EventType.CLASSIFIER_STATS)
+            .addData("enabled", plugin.getConfigManager().isLocalClassifierEnabled())
+            .addData("shadow", plugin.getConfigManager().isLocalClassifierShadow())
+            .addData("model_loaded", plugin.getApiClient().getLocalTier().isModelLoaded())
+            .addData("local_evaluations", localEvaluations.sum())
+            .addData("local_passes", localPasses.sum())
+            .addData("local_latency_avg_us", Math.round(getLocalAverageMicros() * 100) / 100.0)
+            .addData("local_latency_max_us", localMaxNanos.get() / 1000)
+            .addData("remote_calls", remoteCalls.sum())
+            .addData("remote_latency_avg_ms", Math.round(getRemoteAverageMillis() * 100) / 100.0)
+            .addData("shadow_comparisons", getComparisons())
+            .addData("shadow_missed_flagged", shadowMissedFlagged.sum())
+            .addData("clean_precision", Math.round(getCleanPrecision() * 10000) / 10000.0)
+            .addData("clean_coverage", Math.round(getCleanCoverage() * 10000) / 10000.0);
+    }
+
+    public void reset() {
+        localEvaluations.reset();
+        localNanos.reset();
+        localMaxNanos.reset();
+        localPasses.reset();
+        remoteCalls.reset();
+        remoteNanos.reset();
+        shadowAgreeClean.reset();
+        shadowMissedFlagged.reset();
+        shadowUncertainClean.reset();
+        shadowUncertainFlagged.reset();
+    }
+}
@@ -3,10 +3,10 @@ package dev.loratech.guard.telemetry;
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
 import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.http.HttpTransport;
 import okhttp3.*;
 
 import java.io.IOException;
-import java.util.concurrent.TimeUnit;
 
 public class TelemetryClient {
 
@@ -14,17 +14,11 @@ public class TelemetryClient {
     private static final String TELEMETRY_ENDPOINT = "/api/telemetry";
     
     private final LoraGuard plugin;
-    private final OkHttpClient httpClient;
     private final Gson gson;
 
     public TelemetryClient(LoraGuard plugin) {
         this.plugin = plugin;
         this.gson = new GsonBuilder().create();
-        this.httpClient = new OkHttpClient.Builder()
-            .connectTimeout(10, TimeUnit.SECONDS)
-            .readTimeout(10, TimeUnit.SECONDS)
-            .writeTimeout(10, TimeUnit.SECONDS)
-            .build();
     }
 
     public void sendAsync(TelemetryPayload payload, TelemetryCallback callback) {
@@ -43,7 +37,7 @@ public class TelemetryClient {
                 .post(body)
                 .build();
 
-            httpClient.newCall(request).enqueue(new Callback() {
+            Call call = plugin.getHttpTransport().enqueue(HttpTransport.Destination.TELEMETRY, request, new Callback() {
                 @Override
                 public void onFailure(Call call, IOException e) {
                     plugin.getLogger().warning("[Telemetry] Send failed: " + e.getMessage());
@@ -69,6 +63,9 @@ public class TelemetryClient {
                     }
                 }
             });
+            if (call == null && callback != null) {
+                callback.onFailure(new IOException("Telemetry send queue is full"));
+            }
         } catch (Exception e) {
             plugin.getLogger().warning("[Telemetry] Error: " + e.getMessage());
             if (callback != null) {
@@ -77,11 +74,6 @@ public class TelemetryClient {
         }
     }
 
-    public void shutdown() {
-        httpClient.dispatcher().executorService().shutdown();
-        httpClient.connectionPool().evictAll();
-    }
-
     public interface TelemetryCallback {
         void onSuccess();
         void onFailure(Exception e);
@@ -21,7 +21,10 @@ public class TelemetryEvent {
         FEATURE,
         CATEGORY_STATS,
         HOURLY_STATS,
-        VIOLATION_LOG
+        VIOLATION_LOG,
+        API_STATS,
+        CLASSIFIER_STATS,
+        HTTP_STATS
     }
 
     @SerializedName("type")
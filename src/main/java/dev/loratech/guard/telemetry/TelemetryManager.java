@@ -22,6 +22,9 @@ public class TelemetryManager {
     private final PunishmentStatsCollector punishmentStatsCollector;
     private final CacheStatsCollector cacheStatsCollector;
     private final ConfigStatsCollector configStatsCollector;
+    private final ApiStatsCollector apiStatsCollector;
+    private final ClassifierStatsCollector classifierStatsCollector;
+    private final TransportStatsCollector transportStatsCollector;
     private final Queue<TelemetryEvent> usageEvents;
     
     private BukkitTask sendTask;
@@ -45,6 +48,9 @@ public class TelemetryManager {
         this.punishmentStatsCollector = new PunishmentStatsCollector(plugin);
         this.cacheStatsCollector = new CacheStatsCollector(plugin);
         this.configStatsCollector = new ConfigStatsCollector(plugin);
+        this.apiStatsCollector = new ApiStatsCollector(plugin);
+        this.classifierStatsCollector = new ClassifierStatsCollector(plugin);
+        this.transportStatsCollector = new TransportStatsCollector(plugin);
         this.usageEvents = new ConcurrentLinkedQueue<>();
         this.startupTime = System.currentTimeMillis();
         loadOrCreateServerId();
@@ -84,8 +90,6 @@ public class TelemetryManager {
         if (plugin.getConfigManager().isTelemetryEnabled()) {
             sendShutdownEvent();
         }
-        
-        client.shutdown();
     }
 
     public ErrorCollector getErrorCollector() {
@@ -108,6 +112,14 @@ public class TelemetryManager {
         return cacheStatsCollector;
     }
 
+    public ApiStatsCollector getApiStatsCollector() {
+        return apiStatsCollector;
+    }
+
+    public ClassifierStatsCollector getClassifierStatsCollector() {
+        return classifierStatsCollector;
+    }
+
     public void recordViolation(String category) {
         totalViolationsThisSession++;
         punishmentStatsCollector.recordViolation(category);
@@ -169,8 +181,8 @@ public class TelemetryManager {
         punishmentStatsCollector.recordAppealRejected();
     }
 
-    public void recordCacheHit() {
-        cacheStatsCollector.recordHit();
+    public void recordCacheHit(boolean flagged) {
+        cacheStatsCollector.recordHit(flagged);
     }
 
     public void recordCacheMiss() {
@@ -272,6 +284,9 @@ public class TelemetryManager {
         allEvents.add(punishmentStatsCollector.collectHourlyStats());
         allEvents.add(cacheStatsCollector.collectCacheStats());
         allEvents.add(configStatsCollector.collectConfigStats());
+        allEvents.add(apiStatsCollector.collectApiStats());
+        allEvents.add(classifierStatsCollector.collectClassifierStats());
+        allEvents.add(transportStatsCollector.collectTransportStats());
 
         totalViolationsThisSession = 0;
         totalMessagesProcessed = 0;
@@ -281,6 +296,9 @@ public class TelemetryManager {
         filterStatsCollector.reset();
         punishmentStatsCollector.reset();
         cacheStatsCollector.reset();
+        apiStatsCollector.reset();
+        classifierStatsCollector.reset();
+        transportStatsCollector.reset();
         systemHealthCollector.clearSnapshots();
 
         return allEvents;
@@ -0,0 +1,42 @@
+package dev.loratech.guard.telemetry;
+
+import dev.loratech.guard.LoraGuard;
+import dev.loratech.guard.http.HttpTransport;
+import dev.loratech.guard.http.TransportMetrics;
+
+public class TransportStatsCollector {
+
+    private final LoraGuard plugin;
+
+    public TransportStatsCollector(LoraGuard plugin) {
+        this.plugin = plugin;
+    }
+
+    public TelemetryEvent collectTransportStats() {
+        HttpTransport transport = plugin.getHttpTransport();
+        TelemetryEvent event = new TelemetryEvent(TelemetryEvent.EventType.HTTP_STATS)
+            .addData("connections", transport.getConnectionCount())
+            .addData("idle_connections", transport.getIdleConnectionCount());
+
+        for (HttpTransport.Lane lane : transport.getLanes()) {
+            TransportMetrics metrics = lane.getMetrics();
+            String prefix = lane.getDestination().name().toLowerCase() + "_";
+            event.addData(prefix + "in_flight", metrics.getInFlight())
+                .addData(prefix + "running", lane.getRunning())
+                .addData(prefix + "queued", lane.getQueued())
+                .addData(prefix + "requests", metrics.getRequests())
+                .addData(prefix + "failures", metrics.getFailures())
+                .addData(prefix + "rejected", metrics.getRejected())
+                .addData(prefix + "latency_avg_ms", Math.round(metrics.getAverageLatencyMs() * 100) / 100.0)
+                .addData(prefix + "latency_p95_ms", metrics.getLatencyPercentile(0.95))
+                .addData(prefix + "latency_p99_ms", metrics.getLatencyPercentile(0.99));
+        }
+        return event;
+    }
+
+    public void reset() {
+        for (HttpTransport.Lane lane : plugin.getHttpTransport().getLanes()) {
+            lane.getMetrics().reset();
+        }
+    }
+}
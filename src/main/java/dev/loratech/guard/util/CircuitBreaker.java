@@ -0,0 +1,179 @@
+package dev.loratech.guard.util;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+
+public class CircuitBreaker {
+
+    private static final int WINDOW_BUCKETS = 10;
+    private static final double LATENCY_QUANTILE = 0.99;
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final Settings settings;
+    private final long bucketMs;
+    private final Bucket[] buckets = new Bucket[WINDOW_BUCKETS];
+    private final AtomicReference<State> state = new AtomicReference<>(State.CLOSED);
+    private final AtomicLong stateChangedAt = new AtomicLong();
+    private final AtomicInteger probePermits = new AtomicInteger();
+    private final AtomicInteger probeSuccesses = new AtomicInteger();
+    private final LongAdder trips = new LongAdder();
+
+    public CircuitBreaker(Settings settings) {
+        this.settings = settings;
+        this.bucketMs = Math.max(1, settings.windowMs() / WINDOW_BUCKETS);
+        for (int i = 0; i < WINDOW_BUCKETS; i++) {
+            buckets[i] = new Bucket();
+        }
+    }
+
+    public boolean allowRequest() {
+        State current = state.get();
+        if (current == State.CLOSED) return true;
+
+        long now = System.currentTimeMillis();
+        if (now - stateChangedAt.get() >= settings.openMs()) {
+            if (current == State.OPEN ? state.compareAndSet(State.OPEN, State.HALF_OPEN) : restartProbing(now)) {
+                probeSuccesses.set(0);
+                probePermits.set(settings.halfOpenProbes());
+                stateChangedAt.set(now);
+            }
+            current = state.get();
+        }
+
+        return current == State.HALF_OPEN && probePermits.getAndDecrement() > 0;
+    }
+
+    private boolean restartProbing(long now) {
+        long changedAt = stateChangedAt.get();
+        return now - changedAt >= settings.openMs() && stateChangedAt.compareAndSet(changedAt, now);
+    }
+
+    public void onSuccess(long latencyMs) {
+        bucket().record(latencyMs, false);
+        boolean slow = settings.latencyThresholdMs() > 0 && latencyMs >= settings.latencyThresholdMs();
+
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            if (slow) {
+                trip(State.HALF_OPEN);
+            } else if (probeSuccesses.incrementAndGet() >= settings.halfOpenProbes()
+                && state.compareAndSet(State.HALF_OPEN, State.CLOSED)) {
+                stateChangedAt.set(System.currentTimeMillis());
+                clearWindow();
+            }
+        } else if (current == State.CLOSED && slow && isLatencyTripped()) {
+            trip(State.CLOSED);
+        }
+    }
+
+    public void onFailure(long latencyMs) {
+        bucket().record(latencyMs, true);
+
+        State current = state.get();
+        if (current == State.HALF_OPEN) {
+            trip(State.HALF_OPEN);
+        } else if (current == State.CLOSED && isErrorRateTripped()) {
+            trip(State.CLOSED);
+        }
+    }
+
+    public void onIgnored() {
+        if (state.get() == State.HALF_OPEN) {
+            probePermits.updateAndGet(permits -> Math.min(settings.halfOpenProbes(), Math.max(0, permits) + 1));
+        }
+    }
+
+    private void trip(State from) {
+        if (state.compareAndSet(from, State.OPEN)) {
+            stateChangedAt.set(System.currentTimeMillis());
+            probePermits.set(0);
+            trips.increment();
+        }
+    }
+
+    private boolean isErrorRateTripped() {
+        long epoch = System.currentTimeMillis() / bucketMs;
+        long calls = 0;
+        long failures = 0;
+        for (Bucket bucket : buckets) {
+            if (epoch - bucket.epoch.get() < WINDOW_BUCKETS) {
+                calls += bucket.calls.sum();
+                failures += bucket.failures.sum();
+            }
+        }
+        return failures >= settings.failureThreshold() && failures >= calls * settings.failureRate();
+    }
+
+    private boolean isLatencyTripped() {
+        long epoch = System.currentTimeMillis() / bucketMs;
+        long[] totals = new long[LatencyHistogram.BUCKETS];
+        long calls = 0;
+        for (Bucket bucket : buckets) {
+            if (epoch - bucket.epoch.get() < WINDOW_BUCKETS) {
+                calls += bucket.calls.sum();
+                bucket.latency.addTo(totals);
+            }
+        }
+        return calls >= settings.failureThreshold()
+            && LatencyHistogram.percentile(totals, LATENCY_QUANTILE) >= settings.latencyThresholdMs();
+    }
+
+    private Bucket bucket() {
+        long epoch = System.currentTimeMillis() / bucketMs;
+        Bucket bucket = buckets[(int) (epoch % WINDOW_BUCKETS)];
+        long seen = bucket.epoch.get();
+        if (seen != epoch && bucket.epoch.compareAndSet(seen, epoch)) {
+            bucket.clear();
+        }
+        return bucket;
+    }
+
+    private void clearWindow() {
+        for (Bucket bucket : buckets) {
+            bucket.epoch.set(0);
+            bucket.clear();
+        }
+    }
+
+    public State getState() {
+        return state.get();
+    }
+
+    public boolean isOpen() {
+        return state.get() == State.OPEN;
+    }
+
+    public long getTrips() {
+        return trips.sum();
+    }
+
+    private static class Bucket {
+        private final AtomicLong epoch = new AtomicLong();
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private void record(long latencyMs, boolean failed) {
+            calls.increment();
+            if (failed) failures.increment();
+            latency.record(latencyMs);
+        }
+
+        private void clear() {
+            calls.reset();
+            failures.reset();
+            latency.reset();
+        }
+    }
+
+    public record Settings(int failureThreshold, double failureRate, long windowMs,
+                           long latencyThresholdMs, long openMs, int halfOpenProbes) {
+    }
+}
@@ -2,7 +2,14 @@ package dev.loratech.guard.util;
 
 import org.bukkit.ChatColor;
 
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.CharBuffer;
 import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 
 public final class TextUtil {
 
@@ -86,72 +93,187 @@ public final class TextUtil {
         return text.substring(0, 1).toUpperCase() + text.substring(1).toLowerCase();
     }
 
-    private static final java.util.Map<Character, Character> LEET_MAP = new java.util.HashMap<>();
-    private static final java.util.Map<Character, Character> TURKISH_MAP = new java.util.HashMap<>();
+    private static final byte DROP = 0;
+    private static final byte LETTER = 1;
+    private static final byte DIGIT = 2;
+    private static final byte SPACE = 3;
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private static final char[] FOLDS = loadFolds();
+    private static final char[] NORMALIZED = new char[65536];
+    private static final byte[] KIND = new byte[65536];
+    private static final ThreadLocal<CharBuffer> BUFFER = ThreadLocal.withInitial(() -> CharBuffer.allocate(256));
 
     static {
-        LEET_MAP.put('4', 'a');
-        LEET_MAP.put('@', 'a');
-        LEET_MAP.put('8', 'b');
-        LEET_MAP.put('3', 'e');
-        LEET_MAP.put('€', 'e');
-        LEET_MAP.put('1', 'i');
-        LEET_MAP.put('!', 'i');
-        LEET_MAP.put('|', 'i');
-        LEET_MAP.put('0', 'o');
-        LEET_MAP.put('$', 's');
-        LEET_MAP.put('5', 's');
-        LEET_MAP.put('7', 't');
-        LEET_MAP.put('+', 't');
-        LEET_MAP.put('2', 'z');
-        LEET_MAP.put('6', 'g');
-        LEET_MAP.put('9', 'g');
-
-        TURKISH_MAP.put('ı', 'i');
-        TURKISH_MAP.put('İ', 'i');
-        TURKISH_MAP.put('ğ', 'g');
-        TURKISH_MAP.put('Ğ', 'g');
-        TURKISH_MAP.put('ü', 'u');
-        TURKISH_MAP.put('Ü', 'u');
-        TURKISH_MAP.put('ş', 's');
-        TURKISH_MAP.put('Ş', 's');
-        TURKISH_MAP.put('ö', 'o');
-        TURKISH_MAP.put('Ö', 'o');
-        TURKISH_MAP.put('ç', 'c');
-        TURKISH_MAP.put('Ç', 'c');
+        char[] leet = new char[65536];
+        char[] turkish = new char[65536];
+        leet['4'] = 'a';
+        leet['@'] = 'a';
+        leet['8'] = 'b';
+        leet['3'] = 'e';
+        leet['€'] = 'e';
+        leet['1'] = 'i';
+        leet['!'] = 'i';
+        leet['|'] = 'i';
+        leet['0'] = 'o';
+        leet['$'] = 's';
+        leet['5'] = 's';
+        leet['7'] = 't';
+        leet['+'] = 't';
+        leet['2'] = 'z';
+        leet['6'] = 'g';
+        leet['9'] = 'g';
+
+        turkish['ı'] = 'i';
+        turkish['İ'] = 'i';
+        turkish['ğ'] = 'g';
+        turkish['Ğ'] = 'g';
+        turkish['ü'] = 'u';
+        turkish['Ü'] = 'u';
+        turkish['ş'] = 's';
+        turkish['Ş'] = 's';
+        turkish['ö'] = 'o';
+        turkish['Ö'] = 'o';
+        turkish['ç'] = 'c';
+        turkish['Ç'] = 'c';
+
+        for (int i = 0; i < 65536; i++) {
+            char c = (char) i;
+            char lower = Character.toLowerCase(c);
+            if (leet[lower] != 0) {
+                lower = leet[lower];
+            } else if (FOLDS[c] != 0) {
+                lower = FOLDS[c];
+                if (leet[lower] != 0) lower = leet[lower];
+            }
+            if (turkish[c] != 0) lower = turkish[c];
+
+            NORMALIZED[i] = lower;
+            if (Character.isLetter(lower)) {
+                KIND[i] = LETTER;
+            } else if (Character.isLetterOrDigit(lower)) {
+                KIND[i] = DIGIT;
+            } else if (Character.isWhitespace(c)) {
+                KIND[i] = SPACE;
+            }
+        }
+    }
+
+    private static char[] loadFolds() {
+        char[] folds = new char[65536];
+        try (InputStream in = TextUtil.class.getResourceAsStream("/confusables.bin")) {
+            if (in == null) {
+                Logger.getLogger(TextUtil.class.getName()).warning("confusables.bin is missing, homoglyph folding is disabled");
+                return folds;
+            }
+            DataInputStream data = new DataInputStream(new BufferedInputStream(in));
+            int count = data.readInt();
+            for (int i = 0; i < count; i++) {
+                char from = data.readChar();
+                folds[from] = data.readChar();
+            }
+        } catch (IOException e) {
+            Logger.getLogger(TextUtil.class.getName()).log(Level.WARNING, "Failed to load confusables.bin, homoglyph folding is disabled", e);
+            return new char[65536];
+        }
+        return folds;
+    }
+
+    public static char foldChar(char c) {
+        char folded = FOLDS[c];
+        return folded != 0 ? folded : Character.toLowerCase(c);
+    }
+
+    public static boolean isIgnorable(char c) {
+        int type = Character.getType(c);
+        return type == Character.NON_SPACING_MARK || type == Character.ENCLOSING_MARK || type == Character.FORMAT;
     }
 
     public static String normalizeText(String text) {
         if (text == null || text.isEmpty()) return text;
+        CharBuffer buffer = normalizedView(text);
+        return buffer.toString();
+    }
 
-        StringBuilder normalized = new StringBuilder();
-        char lastChar = 0;
+    public static CharBuffer normalizedView(CharSequence text) {
+        CharBuffer buffer = BUFFER.get();
+        if (buffer.capacity() < text.length()) {
+            buffer = CharBuffer.allocate(Math.max(text.length(), buffer.capacity() * 2));
+            BUFFER.set(buffer);
+        }
+        buffer.clear();
+        normalizeInto(text, buffer);
+        buffer.flip();
+        return buffer;
+    }
 
-        for (char c : text.toCharArray()) {
-            char lower = Character.toLowerCase(c);
+    public static int normalizeInto(CharSequence text, CharBuffer out) {
+        int start = out.position();
+        char lastChar = ' ';
+        boolean pendingSpace = false;
 
-            if (LEET_MAP.containsKey(lower)) {
-                lower = LEET_MAP.get(lower);
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            byte kind = KIND[c];
+            if (kind == SPACE) {
+                if (lastChar != ' ') {
+                    pendingSpace = true;
+                    lastChar = ' ';
+                }
+            } else if (kind != DROP) {
+                char mapped = NORMALIZED[c];
+                if (mapped != lastChar || kind == DIGIT) {
+                    if (pendingSpace) {
+                        if (out.position() > start) out.put(' ');
+                        pendingSpace = false;
+                    }
+                    out.put(mapped);
+                    lastChar = mapped;
+                }
             }
+        }
 
-            if (TURKISH_MAP.containsKey(c)) {
-                lower = TURKISH_MAP.get(c);
-            }
+        return out.position() - start;
+    }
 
-            if (Character.isLetterOrDigit(lower)) {
-                if (lower != lastChar || !Character.isLetter(lower)) {
-                    normalized.append(lower);
-                    lastChar = lower;
-                }
-            } else if (Character.isWhitespace(c)) {
+    public static long normalizedHash(CharSequence text) {
+        long hash = FNV_OFFSET;
+        boolean empty = true;
+        char lastChar = ' ';
+        boolean pendingSpace = false;
+
+        for (int i = 0, length = text.length(); i < length; i++) {
+            char c = text.charAt(i);
+            byte kind = KIND[c];
+            if (kind == SPACE) {
                 if (lastChar != ' ') {
-                    normalized.append(' ');
+                    pendingSpace = true;
                     lastChar = ' ';
                 }
+            } else if (kind != DROP) {
+                char mapped = NORMALIZED[c];
+                if (mapped != lastChar || kind == DIGIT) {
+                    if (pendingSpace) {
+                        if (!empty) hash = mix(hash, ' ');
+                        pendingSpace = false;
+                    }
+                    hash = mix(hash, mapped);
+                    empty = false;
+                    lastChar = mapped;
+                }
             }
         }
 
-        return normalized.toString().trim();
+        return hash;
+    }
+
+    private static long mix(long hash, char c) {
+        hash ^= c & 0xff;
+        hash *= FNV_PRIME;
+        hash ^= c >>> 8;
+        return hash * FNV_PRIME;
     }
 
     public static String removeSpecialChars(String text) {